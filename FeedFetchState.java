@@ -0,0 +1,43 @@
+package org.example.jobscraperweb;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "feed_fetch_state")
+@Getter
+@Setter
+public class FeedFetchState {
+    @Id
+    private String source;
+
+    private String etag;
+
+    @Column(name = "last_modified")
+    private String lastModified;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "last_fetched_at")
+    private LocalDateTime lastFetchedAt;
+
+    // Newline-separated urls of the feed's first listings at the last ingest, newest first
+    @Column(name = "high_water_urls", length = 32768)
+    private String highWaterUrls;
+
+    @Column(name = "last_full_scan_at")
+    private LocalDateTime lastFullScanAt;
+
+    public FeedFetchState() {}
+
+    public FeedFetchState(String source) {
+        this.source = source;
+    }
+}
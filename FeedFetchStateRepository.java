@@ -0,0 +1,6 @@
+package org.example.jobscraperweb;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FeedFetchStateRepository extends JpaRepository<FeedFetchState, String> {
+}
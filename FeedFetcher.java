@@ -0,0 +1,233 @@
+package org.example.jobscraperweb;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+
+// Conditional GETs for the feeds over the shared HttpClient: sends stored validators, asks for gzip and
+// reports unchanged feeds as empty
+@Component
+public class FeedFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeedFetcher.class);
+
+    @Autowired
+    private HttpClient httpClient;
+
+    @Autowired
+    private ScraperProperties scraperProperties;
+
+    @Autowired
+    private FeedFetchStateRepository feedFetchStateRepository;
+
+    @Autowired
+    private ScrapeMetrics scrapeMetrics;
+
+    private final Map<String, FeedFetchState> states = new ConcurrentHashMap<>();
+
+    public Optional<FetchedFeed> fetch(String source, String url, HttpHeaders headers) throws IOException {
+        FeedFetchState state = stateFor(source);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(scraperProperties.getHttp().getReadTimeoutMs()))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .GET();
+        headers.forEach((name, values) -> values.forEach(value -> request.header(name, value)));
+        addValidators(request, state);
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching " + source);
+        }
+
+        try (InputStream body = response.body()) {
+            int status = response.statusCode();
+            if (status == HttpStatus.NOT_MODIFIED.value()) {
+                return unlessUnchanged(source, state, null);
+            }
+            if (status >= 400) {
+                throw httpError(status, response.headers().firstValue(HttpHeaders.RETRY_AFTER).orElse(null));
+            }
+            FetchedFeed feed = spool(source, body,
+                    response.headers().firstValue(HttpHeaders.CONTENT_ENCODING).orElse(null),
+                    response.headers().firstValue(HttpHeaders.ETAG).orElse(null),
+                    response.headers().firstValue(HttpHeaders.LAST_MODIFIED).orElse(null));
+            return unlessUnchanged(source, state, feed);
+        }
+    }
+
+    // Incremental unless the source opted out, there is no mark yet or the last full pass is too old
+    HighWaterMark highWaterMark(String source, ScraperProperties.SourceSettings settings) {
+        FeedFetchState state = stateFor(source);
+        boolean fullScan = !settings.isIncremental()
+                || state.getHighWaterUrls() == null
+                || state.getLastFullScanAt() == null
+                || state.getLastFullScanAt().isBefore(
+                        LocalDateTime.now().minus(Duration.ofMillis(settings.getFullScanIntervalMs())));
+        Set<String> previousTop = fullScan ? Set.of()
+                : new HashSet<>(Arrays.asList(state.getHighWaterUrls().split("\n")));
+        return new HighWaterMark(previousTop, settings.getKnownRunLength(), fullScan);
+    }
+
+    // Called only after a feed has been ingested up to its mark, so a failed run is retried in full next time
+    void markProcessed(FetchedFeed feed, HighWaterMark mark) {
+        FeedFetchState state = stateFor(feed.getSource());
+        LocalDateTime now = LocalDateTime.now();
+        state.setEtag(feed.getEtag());
+        state.setLastModified(feed.getLastModified());
+        state.setContentHash(feed.getContentHash());
+        state.setLastFetchedAt(now);
+        if (!mark.getTop().isEmpty()) {
+            state.setHighWaterUrls(String.join("\n", mark.getTop()));
+        }
+        if (mark.isFullScan()) {
+            state.setLastFullScanAt(mark.getStartedAt());
+        }
+        states.put(feed.getSource(), feedFetchStateRepository.save(state));
+    }
+
+    // When the last full pass over the source's feed started, if one has been ingested
+    Optional<LocalDateTime> lastFullScanAt(String source) {
+        return Optional.ofNullable(stateFor(source).getLastFullScanAt());
+    }
+
+    private FeedFetchState stateFor(String source) {
+        return states.computeIfAbsent(source, key -> feedFetchStateRepository.findById(key)
+                .orElseGet(() -> new FeedFetchState(key)));
+    }
+
+    private void addValidators(HttpRequest.Builder request, FeedFetchState state) {
+        if (state.getEtag() != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, state.getEtag());
+        }
+        if (state.getLastModified() != null) {
+            request.header(HttpHeaders.IF_MODIFIED_SINCE, state.getLastModified());
+        }
+    }
+
+    private Optional<FetchedFeed> unlessUnchanged(String source, FeedFetchState state, FetchedFeed feed) {
+        if (feed == null) {
+            logger.info("{} feed not modified since last fetch, skipping", source);
+            return Optional.empty();
+        }
+        if (feed.getContentHash().equals(state.getContentHash())) {
+            logger.info("{} feed content unchanged since last fetch, skipping", source);
+            try {
+                feed.close();
+            } catch (IOException e) {
+                logger.debug("Could not delete spooled {} feed: {}", source, e.getMessage());
+            }
+            return Optional.empty();
+        }
+        return Optional.of(feed);
+    }
+
+    // Copies the decoded body to a temp file while hashing it, so it can be compared before any parsing
+    private FetchedFeed spool(String source, InputStream body, String contentEncoding, String etag,
+                              String lastModified) throws IOException {
+        MessageDigest digest = sha256();
+        Path file = Files.createTempFile("feed-", ".tmp");
+        CountingInputStream wire = new CountingInputStream(body);
+        try (InputStream in = new DigestInputStream(decode(wire, contentEncoding), digest);
+             OutputStream out = Files.newOutputStream(file)) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        // Bytes on the wire, counted here so bodies later dropped as unchanged still show up as downloaded
+        scrapeMetrics.bytesDownloaded(source, wire.getCount());
+        return new FetchedFeed(source, file, HexFormat.of().formatHex(digest.digest()), etag, lastModified);
+    }
+
+    private InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        return contentEncoding != null && contentEncoding.trim().equalsIgnoreCase("gzip")
+                ? new GZIPInputStream(body) : body;
+    }
+
+    // Spring's HTTP status exceptions, so ScrapeRetryPolicy can read the status and Retry-After
+    private RestClientResponseException httpError(int statusCode, String retryAfter) {
+        HttpStatusCode status = HttpStatusCode.valueOf(statusCode);
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        String statusText = status instanceof HttpStatus known ? known.getReasonPhrase() : "";
+        return status.is4xxClientError()
+                ? HttpClientErrorException.create(status, statusText, headers, null, null)
+                : HttpServerErrorException.create(status, statusText, headers, null, null);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+}
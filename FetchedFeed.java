@@ -0,0 +1,50 @@
+package org.example.jobscraperweb;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// A changed feed body spooled to a temp file, plus the validators to store once it has been ingested
+public class FetchedFeed implements AutoCloseable {
+
+    private final String source;
+    private final Path bodyFile;
+    private final String contentHash;
+    private final String etag;
+    private final String lastModified;
+
+    FetchedFeed(String source, Path bodyFile, String contentHash, String etag, String lastModified) {
+        this.source = source;
+        this.bodyFile = bodyFile;
+        this.contentHash = contentHash;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public InputStream openBody() throws IOException {
+        return new BufferedInputStream(Files.newInputStream(bodyFile));
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(bodyFile);
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.jobscraperweb;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// One run's view of a newest-first feed. In an incremental pass it admits listings until knownRunLength
+// of the previous run's top urls have come by in a row; either way it records this run's top urls as the
+// next run's mark. Invalid (null) entries neither extend nor break a run.
+final class HighWaterMark {
+
+    static final int SIZE = 50;
+
+    private final Set<String> previousTop;
+    private final int knownRunLength;
+    private final boolean fullScan;
+    private final List<String> top = new ArrayList<>(SIZE);
+    // Before any listing of the pass is written, so everything the pass saw has last_seen_at at or after it
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private int knownRun;
+    private boolean reached;
+
+    HighWaterMark(Set<String> previousTop, int knownRunLength, boolean fullScan) {
+        this.previousTop = previousTop;
+        this.knownRunLength = Math.max(1, Math.min(knownRunLength, SIZE));
+        this.fullScan = fullScan;
+    }
+
+    // For Stream.takeWhile: false once the mark has been reached
+    boolean admit(Job job) {
+        if (job == null) {
+            return true;
+        }
+        if (top.size() < SIZE) {
+            top.add(job.getUrl());
+        }
+        if (fullScan) {
+            return true;
+        }
+        knownRun = previousTop.contains(job.getUrl()) ? knownRun + 1 : 0;
+        if (knownRun >= knownRunLength) {
+            reached = true;
+            return false;
+        }
+        return true;
+    }
+
+    boolean isFullScan() {
+        return fullScan;
+    }
+
+    boolean isReached() {
+        return reached;
+    }
+
+    List<String> getTop() {
+        return top;
+    }
+
+    LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+}
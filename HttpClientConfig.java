@@ -0,0 +1,22 @@
+package org.example.jobscraperweb;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+@Configuration
+public class HttpClientConfig {
+
+    // One client for every feed: it pools connections per host and negotiates HTTP/2 over TLS, so polls
+    // and retries reuse a connection instead of repeating the handshake
+    @Bean
+    public HttpClient feedHttpClient(ScraperProperties scraperProperties) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(scraperProperties.getHttp().getConnectTimeoutMs()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package org.example.jobscraperweb;
+
+// linked: new urls recorded as duplicates of a job already stored from another source
+public record IngestionResult(int parsed, int added, int updated, int unchanged, int linked) {
+}
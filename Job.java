@@ -1,25 +1,63 @@
 package org.example.jobscraperweb;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Entity
+@Table(name = "job", indexes = {
+        @Index(name = "ux_job_url", columnList = "url", unique = true),
+        // A (column, id) index in each direction per JobSortKey: H2 only reads an index forwards,
+        // so sorted pages in either direction come off an index instead of a sort
+        @Index(name = "ix_job_id_desc", columnList = "id desc"),
+        @Index(name = "ix_job_source_id", columnList = "source, id"),
+        @Index(name = "ix_job_source_id_desc", columnList = "source desc, id desc"),
+        @Index(name = "ix_job_title_id", columnList = "title, id"),
+        @Index(name = "ix_job_title_id_desc", columnList = "title desc, id desc"),
+        @Index(name = "ix_job_company_id", columnList = "company, id"),
+        @Index(name = "ix_job_company_id_desc", columnList = "company desc, id desc"),
+        @Index(name = "ix_job_created_at_id", columnList = "created_at, id"),
+        @Index(name = "ix_job_created_at_id_desc", columnList = "created_at desc, id desc"),
+        // Export order, so an incremental "changed since" export is an index range scan
+        @Index(name = "ix_job_updated_at_id", columnList = "updated_at, id"),
+        // Retention picks stale listings oldest first off this index
+        @Index(name = "ix_job_last_seen_at_id", columnList = "last_seen_at, id")
+})
 @Getter
 @Setter
 public class Job {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Ids come from job_seq, which the batch upsert in JobUpsertRepositoryImpl draws from directly
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_seq")
+    @SequenceGenerator(name = "job_seq", sequenceName = "job_seq", allocationSize = 1)
     private Long id;
 
     private String title;
     private String company;
+
+    @Column(nullable = false, length = 1024)
     private String url;
+
     private String source;
     private String type;
 
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
+
     public Job() {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,164 @@
+package org.example.jobscraperweb;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// JSON view of the job listing with the same filters as the home page. Responses carry an ETag built
+// from the catalog's data version, so a poll between scrapes is answered with a 304 before any query runs.
+@RestController
+@RequestMapping("/api/jobs")
+public class JobApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobApiController.class);
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record JobPage(List<JobItem> jobs, int page, int size, long totalItems, int totalPages,
+                          String nextCursor) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record JobItem(long id, String title, String company, String url, String source, String type,
+                          LocalDateTime postedAt) {
+
+        static JobItem from(Job job) {
+            return new JobItem(job.getId(), job.getTitle(), job.getCompany(), job.getUrl(), job.getSource(),
+                    job.getType(), job.getCreatedAt());
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ArchivedJobPage(List<ArchivedJobItem> jobs, int page, int size, boolean hasNext) {}
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ArchivedJobItem(long id, String title, String company, String url, String source, String type,
+                                  LocalDateTime postedAt, LocalDateTime lastSeenAt, LocalDateTime archivedAt,
+                                  Long duplicateOf) {
+
+        static ArchivedJobItem from(JobArchive job) {
+            return new ArchivedJobItem(job.getId(), job.getTitle(), job.getCompany(), job.getUrl(), job.getSource(),
+                    job.getType(), job.getCreatedAt(), job.getLastSeenAt(), job.getArchivedAt(), job.getCanonicalId());
+        }
+    }
+
+    @Autowired
+    private JobListingService jobListingService;
+
+    @Autowired
+    private JobArchiveRepository jobArchiveRepository;
+
+    @Autowired
+    private JobCatalog jobCatalog;
+
+    @Autowired
+    private JobExportService jobExportService;
+
+    @GetMapping
+    public ResponseEntity<JobPage> list(@RequestParam(value = "keyword", required = false) String keyword,
+                                        @RequestParam(value = "source", required = false) String source,
+                                        @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+                                        @RequestParam(value = "size", required = false, defaultValue = "12") int size,
+                                        @RequestParam(value = "sort", required = false) String sortField,
+                                        @RequestParam(value = "dir", required = false, defaultValue = "desc") String direction,
+                                        @RequestParam(value = "after", required = false) String after,
+                                        WebRequest request) throws IOException {
+
+        // Every query against the same data gets the same answer, so the version alone identifies the body.
+        // Weak, because Tomcat only gzips responses whose ETag does not promise byte-identical bodies
+        String etag = "W/\"" + Long.toHexString(jobCatalog.getDataVersion()) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        keyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+        source = (source != null && !source.trim().isEmpty()) ? source.trim() : null;
+        after = (after != null && !after.isBlank()) ? after.trim() : null;
+
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+        // Without a sort, keyword searches rank by relevance and everything else lists newest first
+        Sort.Order order = sortField != null && !sortField.isBlank()
+                ? JobSortKey.fromParam(sortField).order(sortDirection) : null;
+        JobListingService.JobListing listing = jobListingService.list(keyword, source, page, size, order, after);
+
+        JobPage body = new JobPage(listing.jobs().stream().map(JobItem::from).toList(), page, size,
+                listing.totalItems(), listing.totalPages(), listing.nextCursor());
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    // Bulk export for syncs: every matching row, streamed as NDJSON or CSV in (updatedAt, id) order.
+    // Passing the last updatedAt seen as "since" on the next run fetches only what changed
+    @GetMapping("/export")
+    public void export(@RequestParam(value = "format", required = false, defaultValue = "ndjson") String format,
+                       @RequestParam(value = "source", required = false) String source,
+                       @RequestParam(value = "since", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+                       HttpServletResponse response) throws IOException {
+        JobExportFormat exportFormat = JobExportFormat.fromParam(format);
+        source = (source != null && !source.trim().isEmpty()) ? source.trim() : null;
+        String sourceName = source != null
+                ? JobCatalog.resolveSource(jobCatalog.getSourceCounts(), source).orElse(source)
+                : null;
+
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("jobs." + exportFormat.getKey()).build().toString());
+        long rows = jobExportService.export(exportFormat, sourceName, since, response.getOutputStream());
+        logger.info("Exported {} jobs as {} (source={}, since={})", rows, exportFormat.getKey(), sourceName, since);
+    }
+
+    // Listings retention moved out of the live table, newest first. Served straight from job_archive,
+    // without the search index or ETags, since it is only read on request
+    @GetMapping("/archive")
+    public ArchivedJobPage archive(@RequestParam(value = "keyword", required = false) String keyword,
+                                   @RequestParam(value = "source", required = false) String source,
+                                   @RequestParam(value = "page", required = false, defaultValue = "0") int page,
+                                   @RequestParam(value = "size", required = false, defaultValue = "12") int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        keyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+        source = (source != null && !source.trim().isEmpty()) ? source.trim() : null;
+        source = source != null ? JobCatalog.resolveSource(jobCatalog.getSourceCounts(), source).orElse(source) : null;
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+        Slice<JobArchive> slice;
+        if (keyword != null) {
+            slice = jobArchiveRepository.searchArchive(keyword, source, pageable);
+        } else if (source != null) {
+            slice = jobArchiveRepository.findBySource(source, pageable);
+        } else {
+            slice = jobArchiveRepository.findAllBy(pageable);
+        }
+        return new ArchivedJobPage(slice.getContent().stream().map(ArchivedJobItem::from).toList(), page, size,
+                slice.hasNext());
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.jobscraperweb;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// A listing JobRetentionService moved out of the job table after the feeds stopped showing it. Keeps its
+// original id; a url that comes back later is inserted into job again as a new listing. Duplicates linked
+// to an archived job are archived with it as rows of their own, pointing back at it through canonicalId.
+@Entity
+@Table(name = "job_archive", indexes = {
+        @Index(name = "ix_job_archive_url", columnList = "url"),
+        @Index(name = "ix_job_archive_source_id", columnList = "source, id")
+})
+@Getter
+@Setter
+public class JobArchive {
+    @Id
+    private Long id;
+
+    private String title;
+    private String company;
+
+    @Column(nullable = false, length = 1024)
+    private String url;
+
+    private String source;
+    private String type;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    // Set only for an archived duplicate: the archived job it was linked to
+    @Column(name = "canonical_id")
+    private Long canonicalId;
+
+    public JobArchive() {}
+}
@@ -0,0 +1,19 @@
+package org.example.jobscraperweb;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// Archived listings are only read on request, so slices without totals and a plain LIKE are enough here
+public interface JobArchiveRepository extends JpaRepository<JobArchive, Long> {
+    Slice<JobArchive> findBySource(String source, Pageable pageable);
+    Slice<JobArchive> findAllBy(Pageable pageable);
+
+    @Query("SELECT j FROM JobArchive j WHERE " +
+           "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+           "(:source IS NULL OR j.source = :source)")
+    Slice<JobArchive> searchArchive(@Param("keyword") String keyword, @Param("source") String source, Pageable pageable);
+}
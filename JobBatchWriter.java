@@ -0,0 +1,69 @@
+package org.example.jobscraperweb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Buffers parsed jobs for one source and hands them to ingestion a chunk at a time. Null entries are
+// feed items that failed validation; they are only counted.
+class JobBatchWriter implements Consumer<Job> {
+
+    static final int BATCH_SIZE = 500;
+
+    private final JobIngestionService jobIngestionService;
+    private final String sourceName;
+    private final List<Job> pending = new ArrayList<>(BATCH_SIZE);
+
+    private int parsed;
+    private int added;
+    private int updated;
+    private int unchanged;
+    private int linked;
+    private int invalid;
+    private long writeNanos;
+
+    JobBatchWriter(JobIngestionService jobIngestionService, String sourceName) {
+        this.jobIngestionService = jobIngestionService;
+        this.sourceName = sourceName;
+    }
+
+    @Override
+    public void accept(Job job) {
+        if (job == null) {
+            invalid++;
+            return;
+        }
+        pending.add(job);
+        if (pending.size() >= BATCH_SIZE) {
+            flush();
+        }
+    }
+
+    IngestionResult finish() {
+        flush();
+        return new IngestionResult(parsed, added, updated, unchanged, linked);
+    }
+
+    int getInvalid() {
+        return invalid;
+    }
+
+    long getWriteNanos() {
+        return writeNanos;
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        IngestionResult result = jobIngestionService.ingest(sourceName, pending);
+        writeNanos += System.nanoTime() - start;
+        parsed += result.parsed();
+        added += result.added();
+        updated += result.updated();
+        unchanged += result.unchanged();
+        linked += result.linked();
+        pending.clear();
+    }
+}
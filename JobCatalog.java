@@ -0,0 +1,86 @@
+package org.example.jobscraperweb;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Cached per-source job counts: gives the source filter list and the page totals without scanning the table.
+// The data version moves forward whenever written or archived jobs are committed and backs the API's ETags.
+// Both happen in one after-commit listener, counts first, so no version is ever paired with older counts.
+@Component
+public class JobCatalog {
+
+    static final String SOURCE_COUNTS_CACHE = "jobSourceCounts";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // Seeded from the clock so versions handed out before a restart are never reused
+    private final AtomicLong dataVersion = new AtomicLong(System.currentTimeMillis());
+
+    @Cacheable(SOURCE_COUNTS_CACHE)
+    public Map<String, Long> getSourceCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (SourceCount sourceCount : jobRepository.countJobsPerSource()) {
+            String source = sourceCount.getSource();
+            if (source != null && !source.isBlank()) {
+                counts.put(source, sourceCount.getJobCount());
+            }
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public long getDataVersion() {
+        return dataVersion.get();
+    }
+
+    // Runs after the search index has taken the same event, so a new version never serves stale hits
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onJobsWritten(JobsWrittenEvent event) {
+        evictSourceCounts();
+        dataVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onJobsArchived(JobsArchivedEvent event) {
+        evictSourceCounts();
+        dataVersion.incrementAndGet();
+    }
+
+    // Maps a user-supplied source name to the stored one, so queries can filter with a plain equality.
+    // Static over the caller's getSourceCounts() result: a call from inside this bean would skip the cache.
+    public static Optional<String> resolveSource(Map<String, Long> sourceCounts, String source) {
+        return sourceCounts.keySet().stream()
+                .filter(name -> name.equalsIgnoreCase(source))
+                .findFirst();
+    }
+
+    // Through the CacheManager: an @CacheEvict method called from here would skip the caching proxy
+    private void evictSourceCounts() {
+        Cache cache = cacheManager.getCache(SOURCE_COUNTS_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    public interface SourceCount {
+        String getSource();
+        long getJobCount();
+    }
+}
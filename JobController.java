@@ -1,67 +1,56 @@
 package org.example.jobscraperweb;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Controller
 public class JobController {
     @Autowired
-    private JobRepository jobRepository;
+    private JobListingService jobListingService;
+
+    @Autowired
+    private JobCatalog jobCatalog;
 
     @GetMapping("/")
     public String home(@RequestParam(value = "keyword", required = false) String keyword,
                        @RequestParam(value = "source", required = false) String source,
                        @RequestParam(value = "page", required = false, defaultValue = "0") int page,
                        @RequestParam(value = "size", required = false, defaultValue = "12") int size,
-                       @RequestParam(value = "sort", required = false, defaultValue = "id") String sortField,
+                       @RequestParam(value = "sort", required = false) String sortField,
                        @RequestParam(value = "dir", required = false, defaultValue = "desc") String direction,
-                       Model model) {
+                       @RequestParam(value = "after", required = false) String after,
+                       Model model) throws IOException {
 
         keyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
         source = (source != null && !source.trim().isEmpty()) ? source.trim() : null;
+        after = (after != null && !after.isBlank()) ? after.trim() : null;
 
         Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortField));
-
-        Page<Job> jobPage;
-
-        if (keyword != null && source != null) {
-            jobPage = jobRepository.searchJobsBySource(keyword, source, pageable);
-        } else if (keyword != null) {
-            jobPage = jobRepository.searchJobs(keyword, pageable);
-        } else if (source != null) {
-            jobPage = jobRepository.findBySourceIgnoreCase(source, pageable);
-        } else {
-            jobPage = jobRepository.findAll(pageable);
-        }
-
-        List<String> sources = jobRepository.findAll()
-                .stream()
-                .map(Job::getSource)
-                .filter(s -> s != null && !s.isBlank())
-                .distinct()
-                .collect(Collectors.toList());
+        // Without a sort, keyword searches rank by relevance and everything else lists newest first
+        JobSortKey sortKey = sortField != null && !sortField.isBlank() ? JobSortKey.fromParam(sortField) : null;
+        JobListingService.JobListing listing = jobListingService.list(keyword, source, page, size,
+                sortKey != null ? sortKey.order(sortDirection) : null, after);
 
-        model.addAttribute("jobs", jobPage.getContent());
-        model.addAttribute("sources", sources);
+        model.addAttribute("jobs", listing.jobs());
+        model.addAttribute("sources", List.copyOf(jobCatalog.getSourceCounts().keySet()));
         model.addAttribute("keyword", keyword);
         model.addAttribute("source", source);
         model.addAttribute("currentPage", page);
         model.addAttribute("pageSize", size);
-        model.addAttribute("totalPages", jobPage.getTotalPages());
-        model.addAttribute("totalItems", jobPage.getTotalElements());
-        model.addAttribute("sortField", sortField);
+        model.addAttribute("totalPages", listing.totalPages());
+        model.addAttribute("totalItems", listing.totalItems());
+        model.addAttribute("sortField", sortKey != null ? sortKey.getKey()
+                : keyword != null ? "relevance" : JobSortKey.ID.getKey());
         model.addAttribute("sortDir", direction);
+        model.addAttribute("after", after);
+        model.addAttribute("nextCursor", listing.nextCursor());
 
         return "index";
     }
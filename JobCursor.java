@@ -0,0 +1,112 @@
+package org.example.jobscraperweb;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.beans.PropertyDescriptor;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Opaque "after" tokens for seek pagination. Listing cursors hold the last row's sort key and id;
+// search cursors hold the sort they were issued for and the last hit's id and sort value (its relevance
+// score unless another order was asked for). Malformed or mismatched tokens are rejected with
+// IllegalArgumentException.
+final class JobCursor {
+
+    private static final String KEYSET = "k";
+    private static final String SEARCH = "s";
+    private static final String SEPARATOR = "|";
+
+    record SearchPosition(long id, String value) {}
+
+    private JobCursor() {}
+
+    static String keyset(Sort.Order order, Job last) {
+        Object value = new BeanWrapperImpl(last).getPropertyValue(order.getProperty());
+        return encode(KEYSET, order.getDirection().name(), order.getProperty(), String.valueOf(last.getId()),
+                value != null ? value.toString() : "");
+    }
+
+    // Returns the keys of a KeysetScrollPosition for the given order
+    static Map<String, Object> decodeKeyset(String cursor, Sort.Order order) {
+        String[] parts = decode(cursor, KEYSET, 5);
+        if (!parts[1].equals(order.getDirection().name()) || !parts[2].equals(order.getProperty())) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(order.getProperty(), parseValue(order.getProperty(), parts[4]));
+        keys.put("id", parseLong(parts[3]));
+        return keys;
+    }
+
+    static String search(String sort, long id, String value) {
+        return encode(SEARCH, sort, Long.toString(id), value);
+    }
+
+    static SearchPosition decodeSearch(String cursor, String sort) {
+        String[] parts = decode(cursor, SEARCH, 4);
+        if (!parts[1].equals(sort)) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+        return new SearchPosition(parseLong(parts[2]), parts[3]);
+    }
+
+    private static String encode(String... parts) {
+        String joined = String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor, String kind, int expectedParts) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        // The sort value goes last, so separators inside it survive the split
+        String[] parts = decoded.split("\\|", expectedParts);
+        if (parts.length != expectedParts || !parts[0].equals(kind)) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return parts;
+    }
+
+    private static Object parseValue(String property, String value) {
+        if ("id".equals(property)) {
+            return parseLong(value);
+        }
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(Job.class, property);
+        if (descriptor == null) {
+            throw new IllegalArgumentException("Unknown sort property: " + property);
+        }
+        Class<?> type = descriptor.getPropertyType();
+        if (type == String.class) {
+            return value;
+        }
+        if (type == Long.class) {
+            return parseLong(value);
+        }
+        if (type == LocalDateTime.class) {
+            try {
+                return LocalDateTime.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed cursor", e);
+            }
+        }
+        throw new IllegalArgumentException("Cannot page by " + property);
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+}
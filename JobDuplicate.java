@@ -0,0 +1,44 @@
+package org.example.jobscraperweb;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// A listing from one source that JobFingerprintIndex matched to a job already stored from another.
+// Kept out of the job table so listings and search show each job once; written by the batch upsert.
+@Entity
+@Table(name = "job_duplicate", indexes = {
+        @Index(name = "ix_job_duplicate_canonical_id", columnList = "canonical_id, last_seen_at")
+})
+@Getter
+@Setter
+public class JobDuplicate {
+    @Id
+    @Column(length = 1024)
+    private String url;
+
+    private String source;
+
+    @Column(name = "canonical_id", nullable = false)
+    private Long canonicalId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt;
+
+    public JobDuplicate() {}
+
+    public JobDuplicate(String url, String source, Long canonicalId) {
+        this.url = url;
+        this.source = source;
+        this.canonicalId = canonicalId;
+    }
+}
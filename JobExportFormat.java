@@ -0,0 +1,32 @@
+package org.example.jobscraperweb;
+
+import java.util.Arrays;
+
+public enum JobExportFormat {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String key;
+    private final String contentType;
+
+    JobExportFormat(String key, String contentType) {
+        this.key = key;
+        this.contentType = contentType;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static JobExportFormat fromParam(String key) {
+        return Arrays.stream(values())
+                .filter(format -> format.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported export format '" + key
+                        + "', expected ndjson or csv"));
+    }
+}
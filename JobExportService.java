@@ -0,0 +1,119 @@
+package org.example.jobscraperweb;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Streams the job table to a response one row at a time. Rows come off a forward-only cursor and are
+// detached once written, so memory stays flat however many jobs are exported.
+@Service
+public class JobExportService {
+
+    static final int FETCH_SIZE = 500;
+
+    // Earliest "changed since" bound; every row's updated_at is after it
+    private static final LocalDateTime ALL_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String[] CSV_COLUMNS = {"id", "title", "company", "url", "source", "type", "posted_at", "updated_at"};
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long export(JobExportFormat format, String source, LocalDateTime since, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows = 0;
+        try (Stream<Job> jobs = jobRepository.streamForExport(source, since != null ? since : ALL_TIME)) {
+            Iterator<Job> iterator = jobs.iterator();
+            if (format == JobExportFormat.CSV) {
+                writeCsvRow(writer, CSV_COLUMNS);
+            }
+            try (JsonGenerator json = JSON_FACTORY.createGenerator(writer)) {
+                // The writer is flushed and closed by the caller's response, not by the generator
+                json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                json.setRootValueSeparator(null);
+                while (iterator.hasNext()) {
+                    Job job = iterator.next();
+                    if (format == JobExportFormat.CSV) {
+                        writeCsvRow(writer, csvValues(job));
+                    } else {
+                        writeJson(json, job);
+                    }
+                    entityManager.detach(job);
+                    rows++;
+                }
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeJson(JsonGenerator json, Job job) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", job.getId());
+        writeStringField(json, "title", job.getTitle());
+        writeStringField(json, "company", job.getCompany());
+        writeStringField(json, "url", job.getUrl());
+        writeStringField(json, "source", job.getSource());
+        writeStringField(json, "type", job.getType());
+        writeStringField(json, "postedAt", format(job.getCreatedAt()));
+        writeStringField(json, "updatedAt", format(job.getUpdatedAt()));
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private void writeStringField(JsonGenerator json, String name, String value) throws IOException {
+        if (value != null) {
+            json.writeStringField(name, value);
+        }
+    }
+
+    private String[] csvValues(Job job) {
+        return new String[]{String.valueOf(job.getId()), job.getTitle(), job.getCompany(), job.getUrl(),
+                job.getSource(), job.getType(), format(job.getCreatedAt()), format(job.getUpdatedAt())};
+    }
+
+    // RFC 4180: fields holding a separator, quote or line break are quoted, with quotes doubled
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String format(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.toString() : null;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.jobscraperweb;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 64-bit fingerprint of a listing's normalized title and company. Case, accents, punctuation, word order,
+// common abbreviations, "remote" noise and company suffixes are normalized away, so the same job posted
+// on two boards gets the same value while jobs that differ in a real word (Java vs Go) do not.
+final class JobFingerprint {
+
+    // No fingerprint: the title or company has nothing left after normalization
+    static final long NONE = 0L;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final Set<String> TITLE_NOISE = Set.of(
+            "remote", "fully", "worldwide", "anywhere", "the", "a", "an", "and", "of", "for", "to", "with", "at", "in");
+
+    private static final Set<String> COMPANY_SUFFIXES = Set.of(
+            "inc", "llc", "ltd", "limited", "gmbh", "co", "corp", "corporation", "company", "plc", "sa", "bv", "ag");
+
+    private static final Map<String, String> ABBREVIATIONS = Map.of(
+            "sr", "senior", "snr", "senior", "jr", "junior", "eng", "engineer", "dev", "developer",
+            "mgr", "manager", "fullstack", "full stack", "frontend", "front end", "backend", "back end");
+
+    private JobFingerprint() {}
+
+    static long of(String title, String company) {
+        String titleKey = normalize(title, TITLE_NOISE);
+        String companyKey = normalize(company, COMPANY_SUFFIXES);
+        if (titleKey.isEmpty() || companyKey.isEmpty()) {
+            return NONE;
+        }
+        long hash = fnv1a(FNV_OFFSET, titleKey);
+        hash = fnv1a(hash, "\u0001");
+        hash = fnv1a(hash, companyKey);
+        return hash == NONE ? 1L : hash;
+    }
+
+    // Sorted, de-duplicated tokens, so word order and repeats do not matter
+    private static String normalize(String text, Set<String> dropped) {
+        if (text == null) {
+            return "";
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z0-9+#]+", " ");
+        Set<String> tokens = new TreeSet<>();
+        for (String token : folded.trim().split(" ")) {
+            for (String expanded : ABBREVIATIONS.getOrDefault(token, token).split(" ")) {
+                if (!expanded.isEmpty() && !dropped.contains(expanded)) {
+                    tokens.add(expanded);
+                }
+            }
+        }
+        return String.join(" ", tokens);
+    }
+
+    private static long fnv1a(long hash, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,164 @@
+package org.example.jobscraperweb;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+// In-memory map from JobFingerprint to the canonical job, i.e. the first stored listing with that fingerprint.
+// Rebuilt from the job table at startup and claimed by ingestion before it inserts, so the same job arriving
+// from another source is spotted without querying the database per listing, even while both are being stored.
+@Component
+public class JobFingerprintIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobFingerprintIndex.class);
+
+    // Values pack the canonical job's source ordinal into the top byte and its id into the rest
+    private static final int SOURCE_SHIFT = 56;
+    private static final long ID_MASK = (1L << SOURCE_SHIFT) - 1;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LongLongMap canonicalJobs = new LongLongMap();
+    private final List<String> sourceNames = new ArrayList<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Ordered after the search index rebuild and ahead of the startup scrape
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (this) {
+            canonicalJobs.clear();
+            // In id order, so the oldest listing with a fingerprint becomes its canonical job
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT id, title, company, source FROM job ORDER BY id");
+                ps.setFetchSize(1000);
+                return ps;
+            }, rs -> {
+                add(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4));
+            });
+        }
+        ready = true;
+        logger.info("Fingerprint index rebuilt with {} canonical jobs in {}ms",
+                size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    @Order(0)
+    public void onJobsWritten(JobsWrittenEvent event) {
+        synchronized (this) {
+            for (JobsWrittenEvent.WrittenJob job : event.jobs()) {
+                add(job.id(), job.title(), job.company(), job.source());
+            }
+        }
+    }
+
+    // Drops fingerprints whose canonical job was archived; the next listing with one becomes canonical
+    @TransactionalEventListener
+    @Order(0)
+    public void onJobsArchived(JobsArchivedEvent event) {
+        synchronized (this) {
+            for (JobsArchivedEvent.ArchivedJob job : event.jobs()) {
+                long fingerprint = JobFingerprint.of(job.title(), job.company());
+                if (fingerprint != JobFingerprint.NONE
+                        && (canonicalJobs.get(fingerprint, -1L) & ID_MASK) == job.id()) {
+                    canonicalJobs.remove(fingerprint, -1L);
+                }
+            }
+        }
+    }
+
+    // The canonical job for this title and company when it was stored, or claimed, from a different source.
+    // Otherwise claims the fingerprint for the job about to be inserted as id: concurrent ingestion from other
+    // sources links to it from then on, and the claim is released if the inserting transaction rolls back.
+    public synchronized OptionalLong claimOrFindCanonical(String title, String company, String source, long id) {
+        long fingerprint = JobFingerprint.of(title, company);
+        if (!ready || fingerprint == JobFingerprint.NONE) {
+            return OptionalLong.empty();
+        }
+        long claim = ((long) sourceOrdinal(source) << SOURCE_SHIFT) | id;
+        if (canonicalJobs.putIfAbsent(fingerprint, claim)) {
+            releaseOnRollback(fingerprint, claim);
+            return OptionalLong.empty();
+        }
+        long packed = canonicalJobs.get(fingerprint, -1L);
+        if (sourceNames.get((int) (packed >>> SOURCE_SHIFT)).equals(source)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(packed & ID_MASK);
+    }
+
+    public synchronized int size() {
+        return canonicalJobs.size();
+    }
+
+    private void add(long id, String title, String company, String source) {
+        long fingerprint = JobFingerprint.of(title, company);
+        if (fingerprint != JobFingerprint.NONE) {
+            canonicalJobs.putIfAbsent(fingerprint, ((long) sourceOrdinal(source) << SOURCE_SHIFT) | id);
+        }
+    }
+
+    // Claims of one transaction are collected in a list bound to it, and dropped together unless it commits
+    private void releaseOnRollback(long fingerprint, long claim) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<long[]> claims = (List<long[]>) TransactionSynchronizationManager.getResource(this);
+        if (claims == null) {
+            List<long[]> transactionClaims = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, transactionClaims);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(JobFingerprintIndex.this);
+                    if (status != STATUS_COMMITTED) {
+                        release(transactionClaims);
+                    }
+                }
+            });
+            claims = transactionClaims;
+        }
+        claims.add(new long[]{fingerprint, claim});
+    }
+
+    private synchronized void release(List<long[]> claims) {
+        for (long[] claim : claims) {
+            // Only while still held by the claim; a rebuild may have replaced it since
+            if (canonicalJobs.get(claim[0], -1L) == claim[1]) {
+                canonicalJobs.remove(claim[0], -1L);
+            }
+        }
+        logger.debug("Released {} fingerprint claims of a rolled back ingestion", claims.size());
+    }
+
+    private int sourceOrdinal(String source) {
+        String name = source != null ? source : "";
+        int ordinal = sourceNames.indexOf(name);
+        if (ordinal < 0) {
+            ordinal = sourceNames.size();
+            sourceNames.add(name);
+        }
+        return ordinal;
+    }
+}
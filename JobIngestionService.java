@@ -0,0 +1,140 @@
+package org.example.jobscraperweb;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class JobIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobIngestionService.class);
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobFingerprintIndex jobFingerprintIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Classifies a source's parsed jobs with one IN query per chunk and writes them with a batched upsert.
+    // New urls whose fingerprint matches a job stored from another source are linked to it instead; the
+    // rest claim their fingerprint under a pre-drawn id first, so a concurrent source links rather than inserts.
+    // Urls linked on an earlier run keep their link and only have their sighting refreshed.
+    @Transactional
+    public IngestionResult ingest(String sourceName, List<Job> jobs) {
+        Map<String, Job> jobsByUrl = new LinkedHashMap<>();
+        for (Job job : jobs) {
+            jobsByUrl.putIfAbsent(job.getUrl(), job);
+        }
+
+        List<Job> unique = new ArrayList<>(jobsByUrl.values());
+        LocalDateTime seenAt = LocalDateTime.now();
+        int added = 0;
+        int updated = 0;
+        int linked = 0;
+        List<JobsWrittenEvent.WrittenJob> written = new ArrayList<>();
+        for (int from = 0; from < unique.size(); from += CHUNK_SIZE) {
+            List<Job> chunk = unique.subList(from, Math.min(from + CHUNK_SIZE, unique.size()));
+            Map<String, JobSnapshot> existing = jobRepository.findSnapshotsByUrlIn(
+                            chunk.stream().map(Job::getUrl).toList())
+                    .stream()
+                    // A url both stored and recorded as a duplicate is treated as the stored listing
+                    .collect(Collectors.toMap(JobSnapshot::getUrl, Function.identity(),
+                            (first, second) -> first.getCanonicalId() == null ? first : second));
+
+            int unseen = (int) chunk.stream().filter(job -> !existing.containsKey(job.getUrl())).count();
+            Iterator<Long> newIds = unseen > 0
+                    ? jobRepository.nextJobIds(unseen).iterator()
+                    : Collections.emptyIterator();
+
+            List<Job> newJobs = new ArrayList<>();
+            List<Job> changedJobs = new ArrayList<>();
+            List<Job> stored = new ArrayList<>(chunk.size());
+            List<JobDuplicate> duplicates = new ArrayList<>();
+            for (Job job : chunk) {
+                JobSnapshot snapshot = existing.get(job.getUrl());
+                if (snapshot != null && snapshot.getCanonicalId() != null) {
+                    // Linked on an earlier run: only its sighting is refreshed, and it counts as unchanged
+                    duplicates.add(new JobDuplicate(job.getUrl(), sourceName, snapshot.getCanonicalId()));
+                    continue;
+                }
+                if (snapshot == null) {
+                    long id = newIds.next();
+                    OptionalLong canonicalId = jobFingerprintIndex.claimOrFindCanonical(
+                            job.getTitle(), job.getCompany(), sourceName, id);
+                    if (canonicalId.isPresent()) {
+                        duplicates.add(new JobDuplicate(job.getUrl(), sourceName, canonicalId.getAsLong()));
+                        linked++;
+                        continue;
+                    }
+                    job.setId(id);
+                    newJobs.add(job);
+                } else if (!Objects.equals(snapshot.getTitle(), job.getTitle())
+                        || !Objects.equals(snapshot.getCompany(), job.getCompany())) {
+                    changedJobs.add(job);
+                    updated++;
+                }
+                stored.add(job);
+            }
+            jobRepository.upsertAll(stored, seenAt);
+            if (!duplicates.isEmpty()) {
+                jobRepository.upsertDuplicates(duplicates, seenAt);
+            }
+
+            // Ids are read back after the upsert: a changed row archived meanwhile was inserted again under a
+            // new id, and the event must not hand the indexes the archived one. Skipped when nothing was written
+            if (!newJobs.isEmpty() || !changedJobs.isEmpty()) {
+                Map<String, Job> writtenJobsByUrl = new LinkedHashMap<>();
+                newJobs.forEach(job -> writtenJobsByUrl.put(job.getUrl(), job));
+                changedJobs.forEach(job -> writtenJobsByUrl.put(job.getUrl(), job));
+                for (JobSnapshot row : jobRepository.findSnapshotsByUrlIn(writtenJobsByUrl.keySet())) {
+                    if (row.getCanonicalId() == null) {
+                        written.add(toWrittenJob(row, writtenJobsByUrl.get(row.getUrl())));
+                    }
+                }
+                added += newJobs.size();
+            }
+        }
+
+        if (!written.isEmpty()) {
+            eventPublisher.publishEvent(new JobsWrittenEvent(written));
+        }
+
+        IngestionResult result = new IngestionResult(jobs.size(), added, updated,
+                unique.size() - added - updated - linked, linked);
+        logger.debug("{}: {}", sourceName, result);
+        return result;
+    }
+
+    // For a fetch that came back unchanged: every listing the feed showed since its last full pass is still
+    // there, so it counts as seen now and retention does not archive a feed that merely stopped changing
+    @Transactional
+    public int confirmUnchanged(String sourceName, LocalDateTime lastFullScanAt) {
+        int refreshed = jobRepository.refreshLastSeen(sourceName, lastFullScanAt, LocalDateTime.now());
+        logger.debug("{}: feed unchanged, {} listings confirmed as seen", sourceName, refreshed);
+        return refreshed;
+    }
+
+    private JobsWrittenEvent.WrittenJob toWrittenJob(JobSnapshot stored, Job job) {
+        return new JobsWrittenEvent.WrittenJob(stored.getId(), job.getTitle(), job.getCompany(), job.getSource(),
+                stored.getCreatedAt());
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.jobscraperweb;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Resolves a job listing request to one page of jobs. Pages are addressed either by number (OFFSET) or,
+// when an "after" cursor is given, by seeking past the previous page's last row, which costs the same
+// at any depth. Totals come from cached counts or the search index, never a COUNT(*) per request.
+@Service
+public class JobListingService {
+
+    public record JobListing(List<Job> jobs, long totalItems, int totalPages, String nextCursor) {}
+
+    // The order listings get when none is asked for (a null order); keyword searches rank by relevance instead
+    private static final Sort.Order DEFAULT_ORDER = JobSortKey.ID.order(Sort.Direction.DESC);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobCatalog jobCatalog;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    public JobListing list(String keyword, String source, int page, int size, Sort.Order order, String after)
+            throws IOException {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        // The search index takes an int offset and reads one page plus one hit past it
+        if ((long) page * size > Integer.MAX_VALUE - size - 1L) {
+            throw new IllegalArgumentException("Page " + page + " is out of range for page size " + size);
+        }
+
+        if (keyword != null && jobSearchIndex.isReady()) {
+            // Ranked by relevance, or sorted as asked, by the search index; only the page's rows are loaded
+            // from the database
+            JobSortKey sortKey = order != null ? JobSortKey.fromOrder(order) : null;
+            boolean descending = order != null && order.isDescending();
+            JobSearchIndex.SearchHits hits = after != null
+                    ? jobSearchIndex.searchAfter(keyword, source, sortKey, descending, after, size)
+                    : jobSearchIndex.search(keyword, source, sortKey, descending, page * size, size);
+            return listing(findAllInOrder(hits.ids()), hits.totalHits(), size, hits.nextCursor());
+        }
+
+        if (order == null) {
+            order = DEFAULT_ORDER;
+        }
+
+        Sort sort = Sort.by(order);
+        if (!"id".equals(order.getProperty())) {
+            // id breaks ties so the seek position is unique
+            sort = sort.and(Sort.by(order.getDirection(), "id"));
+        }
+
+        if (keyword != null) {
+            // Until the index is built: LIKE scan with page numbers only, no cursor
+            Pageable pageable = PageRequest.of(page, size, sort);
+            Page<Job> jobPage = source != null
+                    ? jobRepository.searchJobsBySource(keyword, source, pageable)
+                    : jobRepository.searchJobs(keyword, pageable);
+            return listing(jobPage.getContent(), jobPage.getTotalElements(), size, null);
+        }
+
+        Map<String, Long> sourceCounts = jobCatalog.getSourceCounts();
+        String sourceName = null;
+        if (source != null) {
+            sourceName = JobCatalog.resolveSource(sourceCounts, source).orElse(null);
+            if (sourceName == null) {
+                return listing(List.of(), 0, size, null);
+            }
+        }
+
+        // Sorting on the filtered column too lets H2 walk ix_job_source_id in order
+        boolean sortBySource = sourceName != null && "id".equals(order.getProperty());
+        if (sortBySource) {
+            sort = Sort.by(order.getDirection(), "source").and(sort);
+        }
+
+        List<Job> jobs;
+        boolean hasNext;
+        if (after != null) {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (sortBySource) {
+                keys.put("source", sourceName);
+            }
+            keys.putAll(JobCursor.decodeKeyset(after, order));
+            ScrollPosition position = ScrollPosition.forward(keys);
+            Window<Job> window = sourceName != null
+                    ? jobRepository.findBySource(sourceName, position, sort, Limit.of(size))
+                    : jobRepository.findAllBy(position, sort, Limit.of(size));
+            jobs = window.getContent();
+            hasNext = window.hasNext();
+        } else {
+            Pageable pageable = PageRequest.of(page, size, sort);
+            Slice<Job> slice = sourceName != null
+                    ? jobRepository.findBySource(sourceName, pageable)
+                    : jobRepository.findAllBy(pageable);
+            jobs = slice.getContent();
+            hasNext = slice.hasNext();
+        }
+
+        // Totals come from the cached per-source counts
+        long total = sourceName != null
+                ? sourceCounts.getOrDefault(sourceName, 0L)
+                : sourceCounts.values().stream().mapToLong(Long::longValue).sum();
+        return listing(jobs, total, size, hasNext ? lastCursor(jobs, order) : null);
+    }
+
+    private JobListing listing(List<Job> jobs, long totalItems, int size, String nextCursor) {
+        int totalPages = (int) ((totalItems + size - 1) / size);
+        return new JobListing(jobs, totalItems, totalPages, nextCursor);
+    }
+
+    private String lastCursor(List<Job> jobs, Sort.Order order) {
+        return jobs.isEmpty() ? null : JobCursor.keyset(order, jobs.get(jobs.size() - 1));
+    }
+
+    private List<Job> findAllInOrder(List<Long> ids) {
+        Map<Long, Job> jobsById = jobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Job::getId, Function.identity()));
+        return ids.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
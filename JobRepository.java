@@ -1,18 +1,41 @@
 package org.example.jobscraperweb;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JobUpsertRepository {
     List<Job> findByTitleContainingIgnoreCase(String keyword);
     Page<Job> findByTitleContainingIgnoreCase(String keyword, Pageable pageable);
     boolean existsByUrl(String url);
-    Page<Job> findBySourceIgnoreCase(String source, Pageable pageable);
+
+    // Stored listings and recorded duplicates in one round trip; duplicates carry only url and canonicalId
+    @Query("SELECT j.id AS id, j.url AS url, j.title AS title, j.company AS company, " +
+            "j.createdAt AS createdAt, CAST(NULL AS Long) AS canonicalId FROM Job j WHERE j.url IN :urls " +
+            "UNION ALL SELECT CAST(NULL AS Long), d.url, CAST(NULL AS String), CAST(NULL AS String), " +
+            "CAST(NULL AS LocalDateTime), d.canonicalId FROM JobDuplicate d WHERE d.url IN :urls")
+    List<JobSnapshot> findSnapshotsByUrlIn(@Param("urls") Collection<String> urls);
+
+    // Exact match on the stored source name, so the filter and the id order both come from ix_job_source_id
+    Slice<Job> findBySource(String source, Pageable pageable);
+    Slice<Job> findAllBy(Pageable pageable);
+    Window<Job> findBySource(String source, ScrollPosition position, Sort sort, Limit limit);
+    Window<Job> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 
     @Query("SELECT j FROM Job j WHERE " +
            "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -25,6 +48,19 @@ public interface JobRepository extends JpaRepository<Job, Long> {
            "LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     Page<Job> searchJobs(@Param("keyword") String keyword, Pageable pageable);
 
-    @Query("SELECT COUNT(j) FROM Job j WHERE LOWER(j.source) = LOWER(:source)")
-    long countBySource(@Param("source") String source);
+    // Forward-only cursor for exports, read in index order so rows stream instead of being sorted up front
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + JobExportService.FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT j FROM Job j WHERE j.updatedAt >= :since AND (:source IS NULL OR j.source = :source) " +
+           "ORDER BY j.updatedAt, j.id")
+    Stream<Job> streamForExport(@Param("source") String source, @Param("since") LocalDateTime since);
+
+    @Query("SELECT j.source AS source, COUNT(j) AS jobCount FROM Job j GROUP BY j.source ORDER BY j.source")
+    List<JobCatalog.SourceCount> countJobsPerSource();
+
+    @Query("SELECT MAX(j.lastSeenAt) FROM Job j")
+    LocalDateTime findLatestSeenAt();
 }
\ No newline at end of file
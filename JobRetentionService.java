@@ -0,0 +1,149 @@
+package org.example.jobscraperweb;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Moves listings the feeds have stopped showing from job to job_archive, so listings, search and counts
+// only ever touch the live set. Works in batches of its own transaction, oldest last_seen_at first.
+// A job stays live while any duplicate linked to it (see JobFingerprintIndex) is still being seen, and its
+// duplicates are archived along with it.
+@Service
+public class JobRetentionService implements SchedulingConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRetentionService.class);
+
+    // Neither the job nor any duplicate linked to it has been seen since the cutoff
+    private static final String STALE =
+            "j.last_seen_at < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM job_duplicate d WHERE d.canonical_id = j.id AND d.last_seen_at >= :cutoff)";
+
+    private static final String SELECT_STALE_SQL =
+            "SELECT j.id FROM job j WHERE " + STALE + " ORDER BY j.last_seen_at, j.id FETCH FIRST :limit ROWS ONLY";
+
+    private static final String LOCK_DUPLICATES_SQL =
+            "SELECT d.url FROM job_duplicate d WHERE d.canonical_id IN (:ids) FOR UPDATE";
+
+    private static final String LOCK_STALE_SQL =
+            "SELECT j.id, j.title, j.company FROM job j WHERE j.id IN (:ids) AND " + STALE + " FOR UPDATE";
+
+    private static final String ARCHIVE_SQL =
+            "INSERT INTO job_archive (id, title, company, url, source, type, created_at, updated_at, last_seen_at, " +
+            "archived_at) SELECT id, title, company, url, source, type, created_at, updated_at, last_seen_at, " +
+            ":archivedAt FROM job WHERE id IN (:ids)";
+
+    // A duplicate has no row of its own in job, so it is archived under a fresh id with the job's title
+    private static final String ARCHIVE_DUPLICATES_SQL =
+            "INSERT INTO job_archive (id, title, company, url, source, type, created_at, updated_at, last_seen_at, " +
+            "archived_at, canonical_id) SELECT NEXT VALUE FOR job_seq, j.title, j.company, d.url, d.source, j.type, " +
+            "d.created_at, j.updated_at, d.last_seen_at, :archivedAt, j.id " +
+            "FROM job_duplicate d JOIN job j ON j.id = d.canonical_id WHERE d.canonical_id IN (:ids)";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ScraperProperties scraperProperties;
+
+    @Autowired
+    private List<JobSource> sources;
+
+    @Autowired
+    private ScrapeMetrics scrapeMetrics;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        ScraperProperties.Retention retention = scraperProperties.getRetention();
+        if (!retention.isEnabled()) {
+            logger.info("Retention is disabled, stale listings stay in the job table");
+            return;
+        }
+        PeriodicTrigger trigger = new PeriodicTrigger(Duration.ofMillis(retention.getIntervalMs()));
+        trigger.setInitialDelay(Duration.ofMillis(retention.getIntervalMs()));
+        registrar.addTriggerTask(this::archiveStaleJobs, trigger);
+    }
+
+    public int archiveStaleJobs() {
+        ScraperProperties.Retention retention = scraperProperties.getRetention();
+        LocalDateTime cutoff = LocalDateTime.now().minus(staleAfter(retention));
+        int batchSize = Math.max(1, retention.getBatchSize());
+        int archived = 0;
+        try {
+            Batch batch;
+            do {
+                batch = transactionTemplate.execute(status -> archiveBatch(cutoff, batchSize));
+                archived += batch.archived();
+            } while (batch.picked() == batchSize);
+        } catch (RuntimeException e) {
+            logger.error("Archiving stale listings failed after {} jobs: {}", archived, e.getMessage());
+        }
+
+        if (archived > 0) {
+            scrapeMetrics.jobsArchived(archived);
+        }
+        logger.info("Archived {} listings not seen since {}", archived, cutoff);
+        return archived;
+    }
+
+    // Candidates the batch picked, and how many of them were still stale once locked
+    private record Batch(int picked, int archived) {}
+
+    private Batch archiveBatch(LocalDateTime cutoff, int batchSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("limit", batchSize);
+        List<Long> candidates = jdbcTemplate.queryForList(SELECT_STALE_SQL, params, Long.class);
+        if (candidates.isEmpty()) {
+            return new Batch(0, 0);
+        }
+
+        // An upsert may have seen some candidates since they were picked. Locking the rows a sighting writes
+        // and re-checking them keeps those live, and makes later sightings wait until this batch commits
+        params.addValue("ids", candidates);
+        jdbcTemplate.queryForList(LOCK_DUPLICATES_SQL, params, String.class);
+        List<JobsArchivedEvent.ArchivedJob> stale = jdbcTemplate.query(LOCK_STALE_SQL, params,
+                (rs, rowNum) -> new JobsArchivedEvent.ArchivedJob(rs.getLong(1), rs.getString(2), rs.getString(3)));
+        if (stale.isEmpty()) {
+            return new Batch(candidates.size(), 0);
+        }
+
+        params.addValue("ids", stale.stream().map(JobsArchivedEvent.ArchivedJob::id).toList())
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.update(ARCHIVE_SQL, params);
+        // Every duplicate of a stale job is stale too, or the job would not have been selected
+        jdbcTemplate.update(ARCHIVE_DUPLICATES_SQL, params);
+        jdbcTemplate.update("DELETE FROM job_duplicate WHERE canonical_id IN (:ids)", params);
+        jdbcTemplate.update("DELETE FROM job WHERE id IN (:ids)", params);
+        eventPublisher.publishEvent(new JobsArchivedEvent(stale));
+        return new Batch(candidates.size(), stale.size());
+    }
+
+    // Incremental passes only refresh last_seen_at down to the high-water mark, so anything seen more
+    // recently than two full passes ago may still be live
+    private Duration staleAfter(ScraperProperties.Retention retention) {
+        long longestFullScanMs = sources.stream()
+                .mapToLong(source -> scraperProperties.forSource(source.getId()).getFullScanIntervalMs())
+                .max()
+                .orElse(0);
+        return Duration.ofMillis(Math.max(retention.getStaleAfterMs(), 2 * longestFullScanMs));
+    }
+}
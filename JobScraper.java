@@ -1,328 +1,441 @@
 package org.example.jobscraperweb;
 
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.select.Elements;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.PeriodicTrigger;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 @Component
-public class JobScraper {
+public class JobScraper implements SchedulingConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(JobScraper.class);
-    private static final int MAX_RETRIES = 3;
-    private static final long RETRY_DELAY_MS = 2000; // 2 seconds
-    private static final int CONNECTION_TIMEOUT = 15000; // 15 seconds
 
     @Autowired
     private JobRepository jobRepository;
 
     @Autowired
-    private RestTemplate restTemplate;
+    private JobIngestionService jobIngestionService;
 
-    private int jobsScraped = 0;
+    @Autowired
+    private FeedFetcher feedFetcher;
 
-    @PostConstruct
-    public void initialScrape() {
-        logger.info("Starting initial job scraping...");
-        scrapeAndSaveJobs();
-    }
-   
-    @Scheduled(fixedRate = 14400000) // 4 hours
-    public void scheduledScrape() {
-        logger.info("Scheduled scraping started at: {}", LocalDateTime.now());
-        scrapeAndSaveJobs();
-    }
+    @Autowired
+    private ScraperProperties scraperProperties;
 
-    private void scrapeAndSaveJobs() {
-        jobsScraped = 0;
-        logger.info("Starting job scraping session at: {}", LocalDateTime.now());
+    @Autowired
+    private List<JobSource> sources;
 
-        // Execute each scraper with retry logic
-        executeWithRetry(this::scrapeWeWorkRemotely, "We Work Remotely");
-        executeWithRetry(this::scrapeRemoteOk, "RemoteOK");  
-        executeWithRetry(this::scrapeRemotive, "Remotive");
+    @Autowired
+    private ScrapeWarmupHealthIndicator warmupHealth;
 
-        logger.info("Scraping session completed! {} new jobs added.", jobsScraped);
-        logScrapingStatistics();
+    @Autowired
+    private JobCatalog jobCatalog;
+
+    @Autowired
+    private ScrapeMetrics scrapeMetrics;
+
+    private final Map<String, Semaphore> concurrencyLimits = new ConcurrentHashMap<>();
+
+    private final Map<String, SourceCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private ExecutorService scrapeExecutor;
+
+    // Holds runs waiting out a backoff, so no worker or scheduler thread sleeps between attempts
+    private ScheduledExecutorService retryScheduler;
+
+    private final AtomicInteger jobsScraped = new AtomicInteger();
+
+    @PostConstruct
+    public void init() {
+        // Enough workers for every source to run at its concurrency limit without queueing behind another
+        int workers = sources.stream()
+                .mapToInt(source -> Math.max(1, settings(source).getMaxConcurrency()))
+                .sum();
+        scrapeExecutor = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName("job-scraper-" + thread.getId());
+            thread.setDaemon(true);
+            return thread;
+        });
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-scraper-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
-    private boolean executeWithRetry(Runnable scraperMethod, String sourceName) {
-        for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
-            try {
-                logger.info("Attempting to scrape {} (attempt {}/{})", sourceName, attempt, MAX_RETRIES);
-                scraperMethod.run();
-                logger.info("Successfully scraped {}", sourceName);
-                return true;
-            } catch (Exception e) {
-                logger.warn("Attempt {}/{} failed for {}: {}", attempt, MAX_RETRIES, sourceName, e.getMessage());
-                
-                if (attempt < MAX_RETRIES) {
-                    try {
-                        long delay = RETRY_DELAY_MS * attempt; // Linear backoff
-                        logger.info("Waiting {}ms before retry...", delay);
-                        Thread.sleep(delay);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        logger.error("Scraper interrupted while waiting for retry");
-                        return false;
-                    }
-                }
-            }
+    // The startup session runs in the background so boot time does not depend on feed latency
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarmup() {
+        if (!scraperProperties.getWarmup().isEnabled()) {
+            warmupHealth.skipped("disabled");
+            return;
         }
-        logger.error("All {} attempts failed for {}", MAX_RETRIES, sourceName);
-        return false;
+        Thread warmup = new Thread(this::initialScrape, "job-scraper-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
     }
 
-    private void scrapeWeWorkRemotely() {
+    public void initialScrape() {
         try {
-            logger.info("Fetching jobs from We Work Remotely RSS");
-            Document doc = Jsoup.connect("https://weworkremotely.com/remote-jobs.rss")
-                    .timeout(CONNECTION_TIMEOUT)
-                    .userAgent("Mozilla/5.0 (compatible; JobScraper/1.0)")
-                    .get();
-            
-            Elements items = doc.select("item");
-            if (items.isEmpty()) {
-                logger.warn("No job items found in We Work Remotely RSS feed");
-                return;
+            long freshnessMs = scraperProperties.getWarmup().getSkipIfFresherThanMs();
+            if (freshnessMs > 0) {
+                LocalDateTime latestSeen = jobRepository.findLatestSeenAt();
+                if (latestSeen != null && latestSeen.isAfter(LocalDateTime.now().minus(Duration.ofMillis(freshnessMs)))) {
+                    logger.info("Skipping initial job scraping, listings were last seen at {}", latestSeen);
+                    warmupHealth.skipped("data last seen at " + latestSeen);
+                    return;
+                }
             }
 
-            int wwrJobs = 0;
-            for (org.jsoup.nodes.Element item : items) {
-                try {
-                    String title = cleanText(item.select("title").text());
-                    String link = cleanText(item.select("link").text());
-                    String company = cleanText(item.select("dc|creator").text());
-
-                    // Handle title parsing for company extraction
-                    if (company.isBlank() && title.contains(":")) {
-                        String[] parts = title.split(":", 2);
-                        if (parts.length == 2) {
-                            company = parts[0].trim();
-                            title = parts[1].trim();
-                        }
-                    }
+            logger.info("Starting initial job scraping...");
+            scrapeAndSaveJobs();
+        } catch (Exception e) {
+            logger.error("Initial job scraping failed: {}", e.getMessage());
+            warmupHealth.failed(e);
+        }
+    }
 
-                    if (isValidJobData(title, company, link)) {
-                        if (!jobRepository.existsByUrl(link)) {
-                            Job job = createJob(title, company, link, "We Work Remotely");
-                            jobRepository.save(job);
-                            jobsScraped++;
-                            wwrJobs++;
-                        }
-                    } else {
-                        logger.debug("Skipping invalid We Work Remotely job data");
-                    }
-                } catch (Exception e) {
-                    logger.warn("Error processing We Work Remotely item: {}", e.getMessage());
-                }
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        for (JobSource source : sources) {
+            ScraperProperties.SourceSettings settings = settings(source);
+            if (!settings.isEnabled()) {
+                logger.info("Source {} is disabled, not scheduling it", source.getName());
+                continue;
             }
-            logger.info("We Work Remotely: {} new jobs added", wwrJobs);
-            
-        } catch (Exception e) {
-            logger.error("Error fetching from We Work Remotely: {}", e.getMessage());
-            throw new RuntimeException("We Work Remotely scraping failed", e);
+            Trigger trigger = createTrigger(settings);
+            // Only starts the run, which continues on the scrape executor
+            registrar.addTriggerTask(() -> scheduledScrape(source), trigger);
+            logger.info("Scheduled {} with {}", source.getName(),
+                    settings.getCron() != null ? "cron '" + settings.getCron() + "'"
+                            : "fixed rate " + settings.getFixedRateMs() + "ms");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+        }
+        if (scrapeExecutor != null) {
+            scrapeExecutor.shutdownNow();
         }
     }
 
-    private void scrapeRemoteOk() {
+    private void scheduledScrape(JobSource source) {
+        String sourceName = source.getName();
+        logger.info("Scheduled scraping of {} started at: {}", sourceName, LocalDateTime.now());
+        CompletableFuture<Boolean> run = executeWithRetry(source);
+        // The same per-source budget a session gets, so a feed that stalls mid-body cannot hold its
+        // concurrency permit forever; cancelling interrupts the blocked read
         try {
-            String url = "https://remoteok.com/api";
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            logger.info("Fetching jobs from RemoteOK API");
-            
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-            
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("RemoteOK API returned status: " + response.getStatusCode());
+            ScheduledFuture<?> timeout = retryScheduler.schedule(() -> {
+                if (run.cancel(true)) {
+                    logger.error("Scraping {} timed out and was cancelled", sourceName);
+                }
+            }, scraperProperties.getSourceTimeoutMs(), TimeUnit.MILLISECONDS);
+            run.whenComplete((succeeded, failure) -> timeout.cancel(false));
+        } catch (RejectedExecutionException e) {
+            run.cancel(true);
+        }
+        run.thenAccept(succeeded -> {
+            if (succeeded) {
+                logScrapingStatistics();
             }
+        });
+    }
 
-            String jsonResponse = response.getBody();
-            if (jsonResponse == null || jsonResponse.isBlank()) {
-                logger.warn("RemoteOK API returned empty response");
-                return;
+    private void scrapeAndSaveJobs() {
+        jobsScraped.set(0);
+        logger.info("Starting job scraping session at: {}", LocalDateTime.now());
+
+        List<JobSource> enabledSources = sources.stream()
+                .filter(source -> settings(source).isEnabled())
+                .toList();
+        warmupHealth.started(enabledSources.size());
+
+        if (scraperProperties.isConcurrent()) {
+            scrapeConcurrently(enabledSources);
+        } else {
+            // Execute each scraper with retry logic, one after another, each within its own timeout
+            for (JobSource source : enabledSources) {
+                CompletableFuture<Boolean> run = executeWithRetry(source);
+                try {
+                    warmupHealth.sourceFinished(run.get(scraperProperties.getSourceTimeoutMs(), TimeUnit.MILLISECONDS));
+                } catch (TimeoutException e) {
+                    run.cancel(true);
+                    logger.error("Scraping {} timed out and was cancelled", source.getName());
+                    warmupHealth.sourceFinished(false);
+                } catch (ExecutionException | CancellationException e) {
+                    logger.error("Scraping {} failed: {}", source.getName(), e.getMessage());
+                    warmupHealth.sourceFinished(false);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    run.cancel(true);
+                    logger.error("Scraping session interrupted");
+                    return;
+                }
             }
+        }
+
+        logger.info("Scraping session completed! {} new jobs added.", jobsScraped.get());
+        warmupHealth.completed(jobsScraped.get());
+        logScrapingStatistics();
+    }
 
-            JSONArray jsonArray = new JSONArray(jsonResponse.trim());
-            if (jsonArray.length() <= 1) {
-                logger.warn("RemoteOK API returned no job data");
+    private void scrapeConcurrently(List<JobSource> sessionSources) {
+        long sessionStart = System.nanoTime();
+        List<Future<Boolean>> futures = new ArrayList<>();
+        sessionSources.forEach(source -> futures.add(executeWithRetry(source)));
+
+        // All sources start together, so each one's budget is measured from the session start
+        long sourceBudgetNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.min(scraperProperties.getSourceTimeoutMs(), scraperProperties.getSessionDeadlineMs()));
+        for (int i = 0; i < futures.size(); i++) {
+            String sourceName = sessionSources.get(i).getName();
+            Future<Boolean> future = futures.get(i);
+            long remainingNanos = sourceBudgetNanos - (System.nanoTime() - sessionStart);
+            boolean succeeded = false;
+            try {
+                succeeded = future.get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                logger.error("Scraping {} timed out and was cancelled", sourceName);
+            } catch (ExecutionException | CancellationException e) {
+                logger.error("Scraping {} failed: {}", sourceName, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                logger.error("Scraping session interrupted");
                 return;
             }
-            
-            int remoteOkJobs = 0;
-            // Skip first element (metadata)
-            for (int i = 1; i < jsonArray.length(); i++) {
-                try {
-                    JSONObject jobObject = jsonArray.getJSONObject(i);
+            warmupHealth.sourceFinished(succeeded);
+        }
+    }
 
-                    String title = cleanText(jobObject.optString("position", ""));
-                    String company = cleanText(jobObject.optString("company", ""));
-                    String link = cleanText(jobObject.optString("url", ""));
+    // Runs the source's attempts on the scrape executor and waits out backoffs on the retry scheduler.
+    // Cancelling the returned future interrupts the attempt in progress and drops any pending retry.
+    private CompletableFuture<Boolean> executeWithRetry(JobSource source) {
+        String sourceName = source.getName();
+        ScraperProperties.SourceSettings settings = settings(source);
+        Semaphore limit = concurrencyLimits.computeIfAbsent(source.getId(),
+                id -> new Semaphore(Math.max(1, settings.getMaxConcurrency())));
+        if (!limit.tryAcquire()) {
+            logger.info("Skipping {}: already running at its concurrency limit", sourceName);
+            scrapeMetrics.runFinished(sourceName, "skipped");
+            return CompletableFuture.completedFuture(false);
+        }
 
-                    // Ensure URL is absolute
-                    if (!link.startsWith("http") && !link.isBlank()) {
-                        link = "https://remoteok.com" + link;
-                    }
+        SourceCircuitBreaker breaker = circuitBreakers.computeIfAbsent(source.getId(), id -> new SourceCircuitBreaker());
+        if (!breaker.tryAcquire()) {
+            limit.release();
+            logger.info("Skipping {}: circuit open until {}", sourceName, breaker.getOpenUntil());
+            scrapeMetrics.runFinished(sourceName, "circuit_open");
+            return CompletableFuture.completedFuture(false);
+        }
 
-                    if (isValidJobData(title, company, link)) {
-                        if (!jobRepository.existsByUrl(link)) {
-                            Job job = createJob(title, company, link, "RemoteOK");
-                            jobRepository.save(job);
-                            jobsScraped++;
-                            remoteOkJobs++;
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("Error processing RemoteOK job {}: {}", i, e.getMessage());
-                }
+        CompletableFuture<Boolean> run = new CompletableFuture<>();
+        run.whenComplete((succeeded, failure) -> {
+            limit.release();
+            if (Boolean.TRUE.equals(succeeded)) {
+                breaker.recordSuccess();
+                scrapeMetrics.runFinished(sourceName, "success");
+                return;
             }
-            logger.info("RemoteOK: {} new jobs added", remoteOkJobs);
-            
-        } catch (HttpClientErrorException e) {
-            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-                logger.warn("Rate limited by RemoteOK API");
-                throw new RuntimeException("RemoteOK rate limit exceeded", e);
-            } else {
-                logger.error("HTTP client error from RemoteOK: {} - {}", e.getStatusCode(), e.getMessage());
-                throw new RuntimeException("RemoteOK API client error", e);
+            if (breaker.recordFailure(settings.getFailureThreshold(), Duration.ofMillis(settings.getCircuitCooldownMs()))) {
+                logger.warn("Circuit for {} opened until {}", sourceName, breaker.getOpenUntil());
             }
-        } catch (HttpServerErrorException e) {
-            logger.error("HTTP server error from RemoteOK: {} - {}", e.getStatusCode(), e.getMessage());
-            throw new RuntimeException("RemoteOK API server error", e);
-        } catch (ResourceAccessException e) {
-            logger.error("Network error accessing RemoteOK: {}", e.getMessage());
-            throw new RuntimeException("RemoteOK network error", e);
-        } catch (Exception e) {
-            logger.error("Unexpected error fetching from RemoteOK: {}", e.getMessage());
-            throw new RuntimeException("RemoteOK scraping failed", e);
-        }
+            scrapeMetrics.runFinished(sourceName, "failure");
+        });
+        attempt(source, settings, breaker, 1, run);
+        return run;
     }
 
-    private void scrapeRemotive() {
+    private void attempt(JobSource source, ScraperProperties.SourceSettings settings, SourceCircuitBreaker breaker,
+                         int attempt, CompletableFuture<Boolean> run) {
+        String sourceName = source.getName();
+        int maxRetries = settings.getMaxRetries();
+        Future<?> running;
         try {
-            String url = "https://remotive.com/api/remote-jobs";
-            HttpHeaders headers = createHeaders();
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            logger.info("Fetching jobs from Remotive API");
-            
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-            
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new RuntimeException("Remotive API returned status: " + response.getStatusCode());
+            running = scrapeExecutor.submit(() -> {
+                if (run.isDone()) {
+                    return;
+                }
+                try {
+                    logger.info("Attempting to scrape {} (attempt {}/{})", sourceName, attempt, maxRetries);
+                    scrapeSource(source);
+                    logger.info("Successfully scraped {}", sourceName);
+                    run.complete(true);
+                } catch (Exception e) {
+                    if (run.isDone()) {
+                        return;
+                    }
+                    logger.warn("Attempt {}/{} failed for {}: {}", attempt, maxRetries, sourceName, e.getMessage());
+                    scheduleRetry(source, settings, breaker, attempt, run, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            run.complete(false);
+            return;
+        }
+        run.whenComplete((succeeded, failure) -> {
+            if (run.isCancelled()) {
+                running.cancel(true);
             }
+        });
+    }
 
-            String jsonResponse = response.getBody();
-            if (jsonResponse == null || jsonResponse.isBlank()) {
-                logger.warn("Remotive API returned empty response");
-                return;
-            }
+    private void scheduleRetry(JobSource source, ScraperProperties.SourceSettings settings, SourceCircuitBreaker breaker,
+                               int attempt, CompletableFuture<Boolean> run, Exception failure) {
+        String sourceName = source.getName();
+        Optional<Duration> retryAfter = ScrapeRetryPolicy.retryAfter(failure);
+        if (!ScrapeRetryPolicy.isTransient(failure)) {
+            logger.error("Not retrying {}: {} is not a transient failure", sourceName, failure.getMessage());
+            run.complete(false);
+            return;
+        }
+        if (attempt >= settings.getMaxRetries()) {
+            logger.error("All {} attempts failed for {}", settings.getMaxRetries(), sourceName);
+            retryAfter.ifPresent(breaker::holdOff);
+            run.complete(false);
+            return;
+        }
 
-            JSONObject jsonObject = new JSONObject(jsonResponse);
-            
-            if (!jsonObject.has("jobs")) {
-                logger.warn("Remotive API response missing 'jobs' key");
+        long delay = ScrapeRetryPolicy.backoffMs(settings, attempt);
+        if (retryAfter.isPresent()) {
+            long requested = retryAfter.get().toMillis();
+            if (requested > settings.getMaxRetryDelayMs()) {
+                // Retrying sooner than asked is what gets a client banned; later runs wait it out instead
+                logger.warn("{} asked to retry after {}ms, holding the source off until then", sourceName, requested);
+                breaker.holdOff(retryAfter.get());
+                run.complete(false);
                 return;
             }
-            
-            JSONArray jobsArray = jsonObject.getJSONArray("jobs");
-            logger.info("Remotive API returned {} jobs", jobsArray.length());
-
-            int remotiveJobs = 0;
-            for (int i = 0; i < jobsArray.length(); i++) {
-                try {
-                    JSONObject jobObject = jobsArray.getJSONObject(i);
+            delay = Math.max(delay, requested);
+        }
 
-                    String title = cleanText(jobObject.optString("title", ""));
-                    String company = cleanText(jobObject.optString("company_name", ""));
-                    String link = cleanText(jobObject.optString("url", ""));
+        scrapeMetrics.retry(sourceName);
+        logger.info("Retrying {} in {}ms...", sourceName, delay);
+        try {
+            ScheduledFuture<?> pending = retryScheduler.schedule(
+                    () -> attempt(source, settings, breaker, attempt + 1, run), delay, TimeUnit.MILLISECONDS);
+            run.whenComplete((succeeded, f) -> pending.cancel(false));
+        } catch (RejectedExecutionException e) {
+            run.complete(false);
+        }
+    }
 
-                    // Ensure URL is absolute
-                    if (!link.startsWith("http") && !link.isBlank()) {
-                        link = "https://remotive.com" + link;
-                    }
+    private void scrapeSource(JobSource source) {
+        String sourceName = source.getName();
+        try {
+            logger.info("Fetching jobs from {}", sourceName);
+            Timer.Sample fetchTimer = Timer.start();
+            Optional<FetchedFeed> fetched;
+            try {
+                fetched = source.fetch(feedFetcher);
+            } catch (Exception e) {
+                scrapeMetrics.fetchFinished(sourceName, fetchTimer, "error");
+                throw e;
+            }
+            scrapeMetrics.fetchFinished(sourceName, fetchTimer, fetched.isPresent() ? "changed" : "unchanged");
+            if (fetched.isEmpty()) {
+                feedFetcher.lastFullScanAt(sourceName)
+                        .ifPresent(since -> jobIngestionService.confirmUnchanged(sourceName, since));
+                return;
+            }
 
-                    if (isValidJobData(title, company, link)) {
-                        if (!jobRepository.existsByUrl(link)) {
-                            Job job = createJob(title, company, link, "Remotive");
-                            jobRepository.save(job);
-                            jobsScraped++;
-                            remotiveJobs++;
-                        }
-                    }
-                } catch (Exception e) {
-                    logger.warn("Error processing Remotive job {}: {}", i, e.getMessage());
-                }
+            JobBatchWriter batchWriter = new JobBatchWriter(jobIngestionService, sourceName);
+            HighWaterMark mark = feedFetcher.highWaterMark(sourceName, settings(source));
+            long ingestStart = System.nanoTime();
+            try (FetchedFeed feed = fetched.get(); Stream<Job> jobs = source.parse(feed.openBody())) {
+                // Feeds list the newest first, so an incremental pass ends where the last run's top begins
+                jobs.takeWhile(mark::admit).forEach(batchWriter);
+                IngestionResult result = batchWriter.finish();
+                // Parsing is lazy and interleaved with the writes, so parse time is what the writes leave over
+                long writeNanos = batchWriter.getWriteNanos();
+                scrapeMetrics.feedIngested(sourceName, result, batchWriter.getInvalid(),
+                        System.nanoTime() - ingestStart - writeNanos, writeNanos);
+                jobsScraped.addAndGet(result.added());
+                feedFetcher.markProcessed(feed, mark);
+                String pass = mark.isFullScan() ? "full pass"
+                        : mark.isReached() ? "stopped at high-water mark" : "incremental pass";
+                logger.info("{}: {} jobs parsed, {} new jobs added ({})", sourceName, result.parsed(), result.added(), pass);
+            }
+        } catch (HttpClientErrorException e) {
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                logger.warn("Rate limited by {}", sourceName);
+                throw new RuntimeException(sourceName + " rate limit exceeded", e);
             }
-            logger.info("Remotive: {} new jobs added", remotiveJobs);
-            
-        } catch (HttpClientErrorException | HttpServerErrorException | ResourceAccessException e) {
-            logger.error("HTTP error fetching from Remotive: {}", e.getMessage());
-            throw new RuntimeException("Remotive API error", e);
+            logger.error("HTTP client error from {}: {} - {}", sourceName, e.getStatusCode(), e.getMessage());
+            throw new RuntimeException(sourceName + " client error", e);
         } catch (Exception e) {
-            logger.error("Unexpected error fetching from Remotive: {}", e.getMessage());
-            throw new RuntimeException("Remotive scraping failed", e);
+            logger.error("Error fetching from {}: {}", sourceName, e.getMessage());
+            throw new RuntimeException(sourceName + " scraping failed", e);
         }
     }
 
-    // Helper methods
-    private HttpHeaders createHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("User-Agent", "Mozilla/5.0 (compatible; JobScraper/1.0)");
-        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
-        return headers;
+    private ScraperProperties.SourceSettings settings(JobSource source) {
+        return scraperProperties.forSource(source.getId());
     }
 
-    private String cleanText(String text) {
-        return text != null ? text.trim() : "";
-    }
-
-    private boolean isValidJobData(String title, String company, String link) {
-        return !title.isBlank() && !company.isBlank() && !link.isBlank() && 
-               link.startsWith("http");
-    }
-
-    private Job createJob(String title, String company, String url, String source) {
-        Job job = new Job();
-        job.setTitle(title);
-        job.setCompany(company);
-        job.setUrl(url);
-        job.setSource(source);
-        job.setType("Remote");
-        return job;
+    private Trigger createTrigger(ScraperProperties.SourceSettings settings) {
+        if (settings.getCron() != null && !settings.getCron().isBlank()) {
+            return new CronTrigger(settings.getCron());
+        }
+        PeriodicTrigger trigger = new PeriodicTrigger(Duration.ofMillis(settings.getFixedRateMs()));
+        trigger.setFixedRate(true);
+        long initialDelay = settings.getInitialDelayMs() != null
+                ? settings.getInitialDelayMs() : settings.getFixedRateMs();
+        trigger.setInitialDelay(Duration.ofMillis(initialDelay));
+        return trigger;
     }
 
+    // From the cached per-source counts that also back the scraper.jobs.stored gauges
     private void logScrapingStatistics() {
         try {
-            long wwrCount = jobRepository.countBySource("We Work Remotely");
-            long remoteOkCount = jobRepository.countBySource("RemoteOK");
-            long remotiveCount = jobRepository.countBySource("Remotive");
-            long totalCount = jobRepository.count();
-            
+            Map<String, Long> counts = jobCatalog.getSourceCounts();
             logger.info("Database Statistics:");
-            logger.info("- We Work Remotely: {} jobs", wwrCount);
-            logger.info("- RemoteOK: {} jobs", remoteOkCount);
-            logger.info("- Remotive: {} jobs", remotiveCount);
-            logger.info("- Total: {} jobs", totalCount);
+            for (JobSource source : sources) {
+                logger.info("- {}: {} jobs", source.getName(), counts.getOrDefault(source.getName(), 0L));
+            }
+            logger.info("- Total: {} jobs", counts.values().stream().mapToLong(Long::longValue).sum());
         } catch (Exception e) {
             logger.warn("Could not generate statistics: {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -2,13 +2,20 @@ package org.example.jobscraperweb;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.Map;
+
 @SpringBootApplication
 @EnableScheduling  // Add this annotation
+@EnableCaching
 public class JobScraperWebApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(JobScraperWebApplication.class, args);
+        SpringApplication application = new SpringApplication(JobScraperWebApplication.class);
+        // Lowest-precedence defaults; application properties or the environment can still override them
+        application.setDefaultProperties(Map.of("management.endpoints.web.exposure.include", "health,prometheus"));
+        application.run(args);
     }
 }
@@ -0,0 +1,333 @@
+package org.example.jobscraperweb;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// In-process Lucene index over job title and company. Rebuilt from the database at startup and kept
+// current from JobsWrittenEvent, so keyword searches never scan the job table. Hits rank by relevance, or
+// by any JobSortKey off doc values that mirror the job table's sort columns.
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String TITLE = "title";
+    private static final String COMPANY = "company";
+    private static final String SOURCE = "source";
+    private static final String TITLE_SORT = "title_sort";
+    private static final String COMPANY_SORT = "company_sort";
+    private static final String SOURCE_SORT = "source_sort";
+    private static final String POSTED_SORT = "posted_sort";
+
+    // Exact term matches outrank prefix matches, and title matches outrank company matches
+    private static final float TITLE_TERM_BOOST = 4f;
+    private static final float COMPANY_TERM_BOOST = 2f;
+    private static final float TITLE_PREFIX_BOOST = 1.5f;
+    private static final float COMPANY_PREFIX_BOOST = 1f;
+
+    private static final HitOrder RELEVANCE = new HitOrder("relevance",
+            new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true)));
+
+    public record SearchHits(List<Long> ids, long totalHits, String nextCursor) {}
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    private volatile boolean ready;
+
+    public JobSearchIndex(ScraperProperties scraperProperties) throws IOException {
+        String indexPath = scraperProperties.getSearch().getIndexPath();
+        directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Ordered ahead of the startup scrape, so documents it writes are never wiped by deleteAll
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            writer.deleteAll();
+            int[] indexed = {0};
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement("SELECT id, title, company, source, created_at FROM job");
+                ps.setFetchSize(1000);
+                return ps;
+            }, rs -> {
+                try {
+                    Timestamp createdAt = rs.getTimestamp(5);
+                    writer.addDocument(toDocument(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                            createdAt != null ? createdAt.toLocalDateTime() : null));
+                    indexed[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.commit();
+            searcherManager.maybeRefresh();
+            ready = true;
+            logger.info("Search index rebuilt with {} jobs in {}ms", indexed[0], System.currentTimeMillis() - start);
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Could not rebuild search index: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(0)
+    public void onJobsWritten(JobsWrittenEvent event) {
+        try {
+            for (JobsWrittenEvent.WrittenJob job : event.jobs()) {
+                writer.updateDocument(new Term(ID, Long.toString(job.id())),
+                        toDocument(job.id(), job.title(), job.company(), job.source(), job.createdAt()));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | AlreadyClosedException e) {
+            logger.warn("Could not index {} written jobs: {}", event.jobs().size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(0)
+    public void onJobsArchived(JobsArchivedEvent event) {
+        try {
+            for (JobsArchivedEvent.ArchivedJob job : event.jobs()) {
+                writer.deleteDocuments(new Term(ID, Long.toString(job.id())));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException | AlreadyClosedException e) {
+            logger.warn("Could not remove {} archived jobs from the index: {}", event.jobs().size(), e.getMessage());
+        }
+    }
+
+    // Every keyword must match title or company, as a whole term or a prefix. A null sortKey ranks by relevance,
+    // then newest first; otherwise hits come in the same (sort key, id) order the job table's indexes give.
+    public SearchHits search(String keyword, String source, JobSortKey sortKey, boolean descending,
+                             int offset, int limit) throws IOException {
+        return search(keyword, source, HitOrder.of(sortKey, descending), null, offset, limit);
+    }
+
+    // Seek variant: continues after the hit a previous page's nextCursor points at, whatever the depth
+    public SearchHits searchAfter(String keyword, String source, JobSortKey sortKey, boolean descending,
+                                  String cursor, int limit) throws IOException {
+        HitOrder order = HitOrder.of(sortKey, descending);
+        return search(keyword, source, order, JobCursor.decodeSearch(cursor, order.name()), 0, limit);
+    }
+
+    private SearchHits search(String keyword, String source, HitOrder order, JobCursor.SearchPosition position,
+                              int offset, int limit) throws IOException {
+        Query query = buildQuery(keyword, source);
+        if (query == null || limit <= 0) {
+            return new SearchHits(List.of(), 0, null);
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int totalHits = searcher.count(query);
+            if (position == null && offset >= totalHits) {
+                return new SearchHits(List.of(), totalHits, null);
+            }
+
+            // One extra hit tells whether there is a next page
+            boolean scored = order == RELEVANCE;
+            TopFieldDocs top = position == null
+                    ? searcher.search(query, offset + limit + 1, order.sort(), scored)
+                    : searcher.searchAfter(after(searcher, order, position), query, limit + 1, order.sort(), scored);
+            ScoreDoc[] scoreDocs = top.scoreDocs;
+            int end = Math.min(scoreDocs.length, offset + limit);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> ids = new ArrayList<>(limit);
+            for (int i = offset; i < end; i++) {
+                ids.add(storedFields.document(scoreDocs[i].doc).getField(ID).numericValue().longValue());
+            }
+
+            String nextCursor = null;
+            if (scoreDocs.length > end && end > offset) {
+                FieldDoc last = (FieldDoc) scoreDocs[end - 1];
+                Object value = last.fields[0];
+                nextCursor = JobCursor.search(order.name(), (Long) last.fields[last.fields.length - 1],
+                        value instanceof BytesRef bytes ? bytes.utf8ToString() : value.toString());
+            }
+            return new SearchHits(ids, totalHits, nextCursor);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // (value, id) is unique, so the doc tiebreaker only needs to be in range; the last doc keeps the
+    // cursor's own hit from being returned again
+    private FieldDoc after(IndexSearcher searcher, HitOrder order, JobCursor.SearchPosition position) {
+        int lastDoc = Math.max(searcher.getIndexReader().maxDoc() - 1, 0);
+        SortField[] sortFields = order.sort().getSort();
+        Object value;
+        try {
+            value = switch (sortFields[0].getType()) {
+                case SCORE -> Float.parseFloat(position.value());
+                case STRING -> new BytesRef(position.value());
+                default -> Long.parseLong(position.value());
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        float score = value instanceof Float relevance ? relevance : Float.NaN;
+        return new FieldDoc(lastDoc, score, sortFields.length == 1
+                ? new Object[]{value}
+                : new Object[]{value, position.id()});
+    }
+
+    private Query buildQuery(String keyword, String source) throws IOException {
+        List<String> terms = analyze(keyword);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery termQuery = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), TITLE_TERM_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new TermQuery(new Term(COMPANY, term)), COMPANY_TERM_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), TITLE_PREFIX_BOOST), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(new Term(COMPANY, term)), COMPANY_PREFIX_BOOST), BooleanClause.Occur.SHOULD)
+                    .build();
+            query.add(termQuery, BooleanClause.Occur.MUST);
+        }
+        if (source != null) {
+            query.add(new TermQuery(new Term(SOURCE, normalizeSource(source))), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute termAttribute = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            tokens.end();
+        }
+        return terms;
+    }
+
+    private Document toDocument(long id, String title, String company, String source, LocalDateTime createdAt) {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(id), Field.Store.NO));
+        document.add(new StoredField(ID, id));
+        document.add(new NumericDocValuesField(ID_SORT, id));
+        document.add(new TextField(TITLE, title != null ? title : "", Field.Store.NO));
+        document.add(new TextField(COMPANY, company != null ? company : "", Field.Store.NO));
+        if (source != null) {
+            document.add(new StringField(SOURCE, normalizeSource(source), Field.Store.NO));
+        }
+        // Every document carries every sort value, with nulls sorting first ascending as they do in H2
+        document.add(new SortedDocValuesField(TITLE_SORT, new BytesRef(title != null ? title : "")));
+        document.add(new SortedDocValuesField(COMPANY_SORT, new BytesRef(company != null ? company : "")));
+        document.add(new SortedDocValuesField(SOURCE_SORT, new BytesRef(source != null ? source : "")));
+        document.add(new NumericDocValuesField(POSTED_SORT,
+                createdAt != null ? epochMicros(createdAt) : Long.MIN_VALUE));
+        return document;
+    }
+
+    // H2 keeps timestamps to the microsecond, so ties on created_at fall through to id just as they do there
+    private static long epochMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private String normalizeSource(String source) {
+        return source.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // A Lucene sort and the name its cursors are issued under; id is always the last sort field
+    private record HitOrder(String name, Sort sort) {
+
+        static HitOrder of(JobSortKey sortKey, boolean descending) {
+            if (sortKey == null) {
+                return RELEVANCE;
+            }
+            SortField id = new SortField(ID_SORT, SortField.Type.LONG, descending);
+            String name = sortKey.getKey() + (descending ? ",desc" : ",asc");
+            SortField key = switch (sortKey) {
+                case ID -> null;
+                case TITLE -> new SortField(TITLE_SORT, SortField.Type.STRING, descending);
+                case COMPANY -> new SortField(COMPANY_SORT, SortField.Type.STRING, descending);
+                case SOURCE -> new SortField(SOURCE_SORT, SortField.Type.STRING, descending);
+                case POSTED -> new SortField(POSTED_SORT, SortField.Type.LONG, descending);
+            };
+            return new HitOrder(name, key != null ? new Sort(key, id) : new Sort(id));
+        }
+    }
+}
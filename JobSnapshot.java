@@ -0,0 +1,14 @@
+package org.example.jobscraperweb;
+
+import java.time.LocalDateTime;
+
+// Projection used to classify incoming listings as new, changed, unchanged or an already linked duplicate
+public interface JobSnapshot {
+    Long getId();
+    String getUrl();
+    String getTitle();
+    String getCompany();
+    LocalDateTime getCreatedAt();
+    // Set only for a url recorded in job_duplicate
+    Long getCanonicalId();
+}
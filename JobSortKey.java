@@ -0,0 +1,49 @@
+package org.example.jobscraperweb;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// The sort keys the listing accepts. Each one is backed by composite (column, id) indexes on the job table,
+// one per direction, so a sorted page with id as the tiebreaker is read straight off an index.
+public enum JobSortKey {
+    ID("id", "id"),                 // primary key, ix_job_id_desc
+    TITLE("title", "title"),        // ix_job_title_id[_desc]
+    COMPANY("company", "company"),  // ix_job_company_id[_desc]
+    SOURCE("source", "source"),     // ix_job_source_id[_desc]
+    POSTED("posted", "createdAt");  // ix_job_created_at_id[_desc]
+
+    private final String key;
+    private final String property;
+
+    JobSortKey(String key, String property) {
+        this.key = key;
+        this.property = property;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public Sort.Order order(Sort.Direction direction) {
+        return new Sort.Order(direction, property);
+    }
+
+    // The key an order() result was built from
+    public static JobSortKey fromOrder(Sort.Order order) {
+        return Arrays.stream(values())
+                .filter(sortKey -> sortKey.property.equals(order.getProperty()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unsupported sort property '" + order.getProperty() + "'"));
+    }
+
+    public static JobSortKey fromParam(String key) {
+        return Arrays.stream(values())
+                .filter(sortKey -> sortKey.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort key '" + key + "', expected one of "
+                        + Arrays.stream(values()).map(JobSortKey::getKey).collect(Collectors.joining(", "))));
+    }
+}
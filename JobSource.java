@@ -0,0 +1,23 @@
+package org.example.jobscraperweb;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// A job board the scraper polls. Implementations are Spring beans and are picked up by JobScraper.
+public interface JobSource {
+
+    // Stable key used for configuration, e.g. scraper.sources.<id>.fixed-rate-ms
+    String getId();
+
+    // Display name, stored as Job.source
+    String getName();
+
+    // Downloads the feed; empty when it has not changed since the last ingested fetch
+    Optional<FetchedFeed> fetch(FeedFetcher feedFetcher) throws IOException;
+
+    // Parses a feed body into jobs; the returned stream owns the body and must be closed.
+    // Entries that fail validation come through as null so the scraper can count them
+    Stream<Job> parse(InputStream body) throws IOException;
+}
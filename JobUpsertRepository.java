@@ -0,0 +1,16 @@
+package org.example.jobscraperweb;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobUpsertRepository {
+    // Draws ids from job_seq ahead of the upsert, so new listings are known by id before they are inserted
+    List<Long> nextJobIds(int count);
+
+    void upsertAll(List<Job> jobs, LocalDateTime seenAt);
+
+    void upsertDuplicates(List<JobDuplicate> duplicates, LocalDateTime seenAt);
+
+    // Moves last_seen_at of a source's listings and duplicates seen since the given time up to seenAt
+    int refreshLastSeen(String source, LocalDateTime since, LocalDateTime seenAt);
+}
@@ -0,0 +1,81 @@
+package org.example.jobscraperweb;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Spring Data picks this up as the JobUpsertRepository fragment of JobRepository
+class JobUpsertRepositoryImpl implements JobUpsertRepository {
+
+    private static final String NEXT_IDS_SQL = "SELECT NEXT VALUE FOR job_seq FROM SYSTEM_RANGE(1, ?)";
+
+    // H2 MERGE: inserts new listings, rewrites changed title/company and only touches last_seen_at otherwise.
+    // New listings keep the id drawn by nextJobIds; one without (e.g. archived meanwhile) gets the next one
+    private static final String UPSERT_SQL =
+            "MERGE INTO job t USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR), CAST(? AS VARCHAR), " +
+            "CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS TIMESTAMP))) " +
+            "AS s(id, url, title, company, source, type, seen_at) ON t.url = s.url " +
+            "WHEN MATCHED AND (t.title <> s.title OR t.company <> s.company) THEN " +
+            "UPDATE SET title = s.title, company = s.company, updated_at = s.seen_at, last_seen_at = s.seen_at " +
+            "WHEN MATCHED THEN UPDATE SET last_seen_at = s.seen_at " +
+            "WHEN NOT MATCHED THEN " +
+            "INSERT (id, url, title, company, source, type, created_at, updated_at, last_seen_at) " +
+            "VALUES (COALESCE(s.id, NEXT VALUE FOR job_seq), s.url, s.title, s.company, s.source, s.type, " +
+            "s.seen_at, s.seen_at, s.seen_at)";
+
+    // Written for new links and, to refresh last_seen_at, for every later sighting of a linked url
+    private static final String UPSERT_DUPLICATE_SQL =
+            "MERGE INTO job_duplicate t USING (VALUES (CAST(? AS VARCHAR), CAST(? AS VARCHAR), CAST(? AS BIGINT), " +
+            "CAST(? AS TIMESTAMP))) AS s(url, source, canonical_id, seen_at) ON t.url = s.url " +
+            "WHEN MATCHED THEN UPDATE SET canonical_id = s.canonical_id, last_seen_at = s.seen_at " +
+            "WHEN NOT MATCHED THEN INSERT (url, source, canonical_id, created_at, last_seen_at) " +
+            "VALUES (s.url, s.source, s.canonical_id, s.seen_at, s.seen_at)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int refreshLastSeen(String source, LocalDateTime since, LocalDateTime seenAt) {
+        Timestamp from = Timestamp.valueOf(since);
+        Timestamp seen = Timestamp.valueOf(seenAt);
+        int refreshed = jdbcTemplate.update(
+                "UPDATE job SET last_seen_at = ? WHERE source = ? AND last_seen_at >= ?", seen, source, from);
+        jdbcTemplate.update(
+                "UPDATE job_duplicate SET last_seen_at = ? WHERE source = ? AND last_seen_at >= ?", seen, source, from);
+        return refreshed;
+    }
+
+    @Override
+    public List<Long> nextJobIds(int count) {
+        return jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, count);
+    }
+
+    @Override
+    public void upsertAll(List<Job> jobs, LocalDateTime seenAt) {
+        Timestamp seen = Timestamp.valueOf(seenAt);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, jobs, PersistenceConfig.JDBC_BATCH_SIZE, (ps, job) -> {
+            ps.setObject(1, job.getId(), Types.BIGINT);
+            ps.setString(2, job.getUrl());
+            ps.setString(3, job.getTitle());
+            ps.setString(4, job.getCompany());
+            ps.setString(5, job.getSource());
+            ps.setString(6, job.getType());
+            ps.setTimestamp(7, seen);
+        });
+    }
+
+    @Override
+    public void upsertDuplicates(List<JobDuplicate> duplicates, LocalDateTime seenAt) {
+        Timestamp seen = Timestamp.valueOf(seenAt);
+        jdbcTemplate.batchUpdate(UPSERT_DUPLICATE_SQL, duplicates, PersistenceConfig.JDBC_BATCH_SIZE, (ps, duplicate) -> {
+            ps.setString(1, duplicate.getUrl());
+            ps.setString(2, duplicate.getSource());
+            ps.setLong(3, duplicate.getCanonicalId());
+            ps.setTimestamp(4, seen);
+        });
+    }
+}
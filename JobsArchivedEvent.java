@@ -0,0 +1,9 @@
+package org.example.jobscraperweb;
+
+import java.util.List;
+
+// Published by JobRetentionService for listings it moved to job_archive; consumers see it after commit
+public record JobsArchivedEvent(List<ArchivedJob> jobs) {
+
+    public record ArchivedJob(long id, String title, String company) {}
+}
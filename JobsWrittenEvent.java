@@ -0,0 +1,10 @@
+package org.example.jobscraperweb;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Published by JobIngestionService for listings it inserted or changed; consumers see it after commit
+public record JobsWrittenEvent(List<WrittenJob> jobs) {
+
+    public record WrittenJob(long id, String title, String company, String source, LocalDateTime createdAt) {}
+}
@@ -0,0 +1,123 @@
+package org.example.jobscraperweb;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Pulls job fields out of a JSON feed one object at a time, without building the document in memory
+final class JsonJobReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    record JobFields(String title, String company, String url) {}
+
+    private final String titleField;
+    private final String companyField;
+    private final String urlField;
+
+    JsonJobReader(String titleField, String companyField, String urlField) {
+        this.titleField = titleField;
+        this.companyField = companyField;
+        this.urlField = urlField;
+    }
+
+    // Streams a top-level array of job objects, e.g. RemoteOK's [ {...}, {...} ]
+    Stream<JobFields> readArray(InputStream body) throws IOException {
+        JsonParser parser = JSON_FACTORY.createParser(body);
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array but found " + parser.currentToken());
+            }
+            return streamJobObjects(parser);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    // Streams the job objects held in one array field of a top-level object, e.g. Remotive's {"jobs": [...]}
+    Stream<JobFields> readArrayField(InputStream body, String arrayField) throws IOException {
+        JsonParser parser = JSON_FACTORY.createParser(body);
+        try {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object but found " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (arrayField.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    return streamJobObjects(parser);
+                }
+                parser.skipChildren();
+            }
+            throw new IOException("JSON response is missing the '" + arrayField + "' array");
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    // The returned stream owns the parser (and through it the body); callers must close it
+    private Stream<JobFields> streamJobObjects(JsonParser parser) {
+        Spliterator<JobFields> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super JobFields> action) {
+                try {
+                    JsonToken token;
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token == null) {
+                            throw new IOException("Unexpected end of JSON input");
+                        }
+                        if (token == JsonToken.START_OBJECT) {
+                            action.accept(readJobObject(parser));
+                            return true;
+                        }
+                        parser.skipChildren();
+                    }
+                    return false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private JobFields readJobObject(JsonParser parser) throws IOException {
+        String title = null;
+        String company = null;
+        String url = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value.isScalarValue()) {
+                if (titleField.equals(fieldName)) {
+                    title = parser.getValueAsString();
+                } else if (companyField.equals(fieldName)) {
+                    company = parser.getValueAsString();
+                } else if (urlField.equals(fieldName)) {
+                    url = parser.getValueAsString();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new JobFields(title, company, url);
+    }
+}
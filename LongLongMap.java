@@ -0,0 +1,110 @@
+package org.example.jobscraperweb;
+
+// Open-addressing long -> long map over two primitive arrays: about 32 bytes per entry at worst and
+// no boxing, so a million fingerprints stay in a few tens of megabytes. Key 0 is reserved as the
+// empty slot. Not thread-safe; callers synchronize.
+final class LongLongMap {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    LongLongMap() {
+        keys = new long[MIN_CAPACITY];
+        values = new long[MIN_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long key, long missing) {
+        int slot = find(keys, key);
+        return keys[slot] == key ? values[slot] : missing;
+    }
+
+    // Returns false, leaving the current value, when the key is already present
+    boolean putIfAbsent(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int slot = find(keys, key);
+        if (keys[slot] == key) {
+            return false;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        // Load factor 0.75
+        if (++size > keys.length - (keys.length >>> 2)) {
+            resize(keys.length << 1);
+        }
+        return true;
+    }
+
+    // Returns the removed value, or missing when the key was absent
+    long remove(long key, long missing) {
+        int slot = find(keys, key);
+        if (keys[slot] != key || key == 0) {
+            return missing;
+        }
+        long removed = values[slot];
+        // Backward-shift deletion: pull later entries of the probe run into the gap, so no tombstones are needed
+        int mask = keys.length - 1;
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (keys[next] != 0) {
+            int home = mix(keys[next]) & mask;
+            // Movable unless its home lies cyclically in (gap, next]
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+        size--;
+        return removed;
+    }
+
+    void clear() {
+        keys = new long[MIN_CAPACITY];
+        values = new long[MIN_CAPACITY];
+        size = 0;
+    }
+
+    // The key's slot, or the empty slot where it would go
+    private static int find(long[] table, long key) {
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != 0 && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[capacity];
+        values = new long[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = find(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    // Fingerprints are already hashes, but a finalizer step keeps clustering low for any key
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.jobscraperweb;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Component
+public class RemoteOkSource implements JobSource {
+
+    private static final String FEED_URL = "https://remoteok.com/api";
+
+    private final JsonJobReader reader = new JsonJobReader("position", "company", "url");
+
+    @Override
+    public String getId() {
+        return "remoteok";
+    }
+
+    @Override
+    public String getName() {
+        return "RemoteOK";
+    }
+
+    @Override
+    public Optional<FetchedFeed> fetch(FeedFetcher feedFetcher) throws IOException {
+        return feedFetcher.fetch(getName(), FEED_URL, ScrapedJobs.jsonHeaders());
+    }
+
+    // The first element is feed metadata; it has no position/company and comes through as one invalid entry
+    @Override
+    public Stream<Job> parse(InputStream body) throws IOException {
+        return reader.readArray(body)
+                .map(fields -> ScrapedJobs.toJob(fields.title(), fields.company(), fields.url(),
+                        "https://remoteok.com", getName()));
+    }
+}
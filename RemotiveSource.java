@@ -0,0 +1,38 @@
+package org.example.jobscraperweb;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Component
+public class RemotiveSource implements JobSource {
+
+    private static final String FEED_URL = "https://remotive.com/api/remote-jobs";
+
+    private final JsonJobReader reader = new JsonJobReader("title", "company_name", "url");
+
+    @Override
+    public String getId() {
+        return "remotive";
+    }
+
+    @Override
+    public String getName() {
+        return "Remotive";
+    }
+
+    @Override
+    public Optional<FetchedFeed> fetch(FeedFetcher feedFetcher) throws IOException {
+        return feedFetcher.fetch(getName(), FEED_URL, ScrapedJobs.jsonHeaders());
+    }
+
+    @Override
+    public Stream<Job> parse(InputStream body) throws IOException {
+        return reader.readArrayField(body, "jobs")
+                .map(fields -> ScrapedJobs.toJob(fields.title(), fields.company(), fields.url(),
+                        "https://remotive.com", getName()));
+    }
+}
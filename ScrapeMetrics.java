@@ -0,0 +1,126 @@
+package org.example.jobscraperweb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Micrometer instrumentation for the scrape pipeline, tagged by source name. Items per second and
+// dedup hit rate are rates and ratios of the scraper.items counters, e.g.
+// rate(scraper_items_total{result="new"}[1h]) / rate(scraper_items_total{result="seen"}[1h]).
+@Component
+public class ScrapeMetrics {
+
+    static final String TAG_SOURCE = "source";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JobCatalog jobCatalog;
+
+    @Autowired
+    private List<JobSource> sources;
+
+    private final Map<String, AtomicLong> lastSuccess = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerGauges() {
+        for (JobSource source : sources) {
+            String name = source.getName();
+            // Read from the cached per-source counts, so polling the gauge never queries the table
+            Gauge.builder("scraper.jobs.stored", jobCatalog, catalog -> catalog.getSourceCounts().getOrDefault(name, 0L))
+                    .description("Jobs currently stored for the source")
+                    .tag(TAG_SOURCE, name)
+                    .register(meterRegistry);
+            Gauge.builder("scraper.last.success", lastSuccess.computeIfAbsent(name, key -> new AtomicLong()), AtomicLong::get)
+                    .description("Epoch second of the last successful scrape, 0 if none yet")
+                    .baseUnit("seconds")
+                    .tag(TAG_SOURCE, name)
+                    .register(meterRegistry);
+        }
+    }
+
+    // outcome: changed, unchanged (304 or same content hash) or error
+    public void fetchFinished(String source, Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("scraper.fetch")
+                .description("Time to download a feed")
+                .tags(TAG_SOURCE, source, "outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    public void bytesDownloaded(String source, long bytes) {
+        DistributionSummary.builder("scraper.fetch.bytes")
+                .description("Feed body size")
+                .baseUnit("bytes")
+                .tag(TAG_SOURCE, source)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    public void feedIngested(String source, IngestionResult result, int invalid, long parseNanos, long writeNanos) {
+        timer("scraper.parse", "Time spent parsing a feed body", source).record(parseNanos, TimeUnit.NANOSECONDS);
+        timer("scraper.db.write", "Time spent writing parsed jobs", source).record(writeNanos, TimeUnit.NANOSECONDS);
+
+        items(source, "seen").increment(result.parsed() + invalid);
+        items(source, "invalid").increment(invalid);
+        items(source, "new").increment(result.added());
+        items(source, "updated").increment(result.updated());
+        // Already stored unchanged, or repeated within the feed
+        items(source, "duplicate").increment(result.parsed() - result.added() - result.updated() - result.linked());
+        // Same job as one stored from another source
+        items(source, "linked").increment(result.linked());
+    }
+
+    public void retry(String source) {
+        Counter.builder("scraper.retries")
+                .description("Scrape attempts retried after a failure")
+                .tag(TAG_SOURCE, source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // outcome: success, failure, skipped (source already running at its concurrency limit) or circuit_open
+    public void runFinished(String source, String outcome) {
+        Counter.builder("scraper.runs")
+                .description("Scrape runs by final outcome, after retries")
+                .tags(TAG_SOURCE, source, "outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        if ("success".equals(outcome)) {
+            lastSuccess.computeIfAbsent(source, key -> new AtomicLong())
+                    .set(System.currentTimeMillis() / 1000);
+        }
+    }
+
+    public void jobsArchived(int count) {
+        Counter.builder("scraper.jobs.archived")
+                .description("Stale listings moved to the archive")
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    private Timer timer(String name, String description, String source) {
+        return Timer.builder(name)
+                .description(description)
+                .tag(TAG_SOURCE, source)
+                .register(meterRegistry);
+    }
+
+    private Counter items(String source, String result) {
+        return Counter.builder("scraper.items")
+                .description("Feed entries by what ingestion did with them")
+                .tags(TAG_SOURCE, source, "result", result)
+                .register(meterRegistry);
+    }
+}
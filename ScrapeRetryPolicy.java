@@ -0,0 +1,71 @@
+package org.example.jobscraperweb;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Decides whether a failed scrape attempt is worth retrying and how long to wait before the next one
+final class ScrapeRetryPolicy {
+
+    private ScrapeRetryPolicy() {}
+
+    // Timeouts, dropped connections, 408, 429 and 5xx; anything else (404, DNS failures, unparseable
+    // bodies) fails the same way on the next attempt
+    static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RestClientResponseException response) {
+                int status = response.getStatusCode().value();
+                return status == 408 || status == 429 || status >= 500;
+            }
+            if (cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException
+                    || cause instanceof SocketException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The wait a 429 or 503 asked for, as delta-seconds or an HTTP date
+    static Optional<Duration> retryAfter(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RestClientResponseException response && response.getResponseHeaders() != null) {
+                return parseRetryAfter(response.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            }
+        }
+        return Optional.empty();
+    }
+
+    static Optional<Duration> parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String trimmed = value.trim();
+        try {
+            if (trimmed.chars().allMatch(Character::isDigit)) {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(trimmed)));
+            }
+            Duration until = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return Optional.of(until.isNegative() ? Duration.ZERO : until);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Exponential in the attempt number, capped, with equal jitter so sources failing together do not
+    // retry in lockstep
+    static long backoffMs(ScraperProperties.SourceSettings settings, int attempt) {
+        long exponential = settings.getRetryDelayMs() << Math.min(attempt - 1, 20);
+        long capped = Math.max(1, Math.min(exponential, settings.getMaxRetryDelayMs()));
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+}
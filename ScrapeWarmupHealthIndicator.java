@@ -0,0 +1,85 @@
+package org.example.jobscraperweb;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Reports the startup scrape's progress under /actuator/health. The app serves traffic while it runs,
+// so this stays UP unless scraper.warmup.hold-readiness is set (then OUT_OF_SERVICE until it finishes,
+// for deployments that add it to the readiness group).
+@Component("scrapeWarmup")
+public class ScrapeWarmupHealthIndicator implements HealthIndicator {
+
+    public enum State { PENDING, RUNNING, COMPLETED, SKIPPED, FAILED }
+
+    @Autowired
+    private ScraperProperties scraperProperties;
+
+    private State state = State.PENDING;
+    private int sourcesTotal;
+    private int sourcesFinished;
+    private int sourcesFailed;
+    private int jobsAdded;
+    private String detail;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    @Override
+    public synchronized Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", state);
+        details.put("sourcesFinished", sourcesFinished + "/" + sourcesTotal);
+        details.put("sourcesFailed", sourcesFailed);
+        details.put("jobsAdded", jobsAdded);
+        if (detail != null) {
+            details.put("detail", detail);
+        }
+        if (startedAt != null) {
+            details.put("startedAt", startedAt);
+        }
+        if (finishedAt != null) {
+            details.put("finishedAt", finishedAt);
+        }
+
+        boolean warmingUp = state == State.PENDING || state == State.RUNNING;
+        Health.Builder builder = warmingUp && scraperProperties.getWarmup().isHoldReadiness()
+                ? Health.outOfService() : Health.up();
+        return builder.withDetails(details).build();
+    }
+
+    synchronized void started(int sources) {
+        state = State.RUNNING;
+        sourcesTotal = sources;
+        startedAt = LocalDateTime.now();
+    }
+
+    synchronized void sourceFinished(boolean succeeded) {
+        sourcesFinished++;
+        if (!succeeded) {
+            sourcesFailed++;
+        }
+    }
+
+    synchronized void completed(int added) {
+        state = State.COMPLETED;
+        jobsAdded = added;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized void skipped(String reason) {
+        state = State.SKIPPED;
+        detail = reason;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized void failed(Exception e) {
+        state = State.FAILED;
+        detail = e.getMessage();
+        finishedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.jobscraperweb;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+// Shared field cleanup and validation for the JobSource implementations
+final class ScrapedJobs {
+
+    static final String USER_AGENT = "Mozilla/5.0 (compatible; JobScraper/1.0)";
+
+    private ScrapedJobs() {}
+
+    static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.USER_AGENT, USER_AGENT);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return headers;
+    }
+
+    static HttpHeaders rssHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.USER_AGENT, USER_AGENT);
+        headers.setAccept(List.of(MediaType.parseMediaType("application/rss+xml"), MediaType.APPLICATION_XML,
+                MediaType.TEXT_XML));
+        return headers;
+    }
+
+    static String cleanText(String text) {
+        return text != null ? text.trim() : "";
+    }
+
+    static boolean isValidJobData(String title, String company, String link) {
+        return !title.isBlank() && !company.isBlank() && !link.isBlank() &&
+               link.startsWith("http");
+    }
+
+    // Cleans, absolutizes and validates fields read from a feed; returns null for unusable entries
+    static Job toJob(String rawTitle, String rawCompany, String rawLink, String baseUrl, String source) {
+        String title = cleanText(rawTitle);
+        String company = cleanText(rawCompany);
+        String link = cleanText(rawLink);
+
+        // Ensure URL is absolute
+        if (!link.startsWith("http") && !link.isBlank()) {
+            link = baseUrl + link;
+        }
+
+        return isValidJobData(title, company, link) ? createJob(title, company, link, source) : null;
+    }
+
+    static Job createJob(String title, String company, String url, String source) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setUrl(url);
+        job.setSource(source);
+        job.setType("Remote");
+        return job;
+    }
+}
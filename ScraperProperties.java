@@ -0,0 +1,120 @@
+package org.example.jobscraperweb;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "scraper")
+@Getter
+@Setter
+public class ScraperProperties {
+
+    // Run the sources of a full session in parallel rather than one after another
+    private boolean concurrent = true;
+
+    // Longest one source may take, retries included, in a session or a scheduled run
+    private long sourceTimeoutMs = 120000;
+
+    private long sessionDeadlineMs = 300000;
+
+    private Warmup warmup = new Warmup();
+
+    private Search search = new Search();
+
+    private Http http = new Http();
+
+    private Retention retention = new Retention();
+
+    // Per-source overrides keyed by JobSource.getId(); missing entries use the SourceSettings defaults
+    private Map<String, SourceSettings> sources = new HashMap<>();
+
+    public SourceSettings forSource(String sourceId) {
+        return sources.getOrDefault(sourceId, new SourceSettings());
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+        // Run a full session in the background once the application is ready
+        private boolean enabled = true;
+
+        // Skip the startup session if some listing was seen more recently than this; 0 always runs it
+        private long skipIfFresherThanMs = 0;
+
+        private boolean holdReadiness = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Search {
+        // Directory for the Lucene index; kept in memory when unset. Rebuilt from the database on startup.
+        private String indexPath;
+    }
+
+    @Getter
+    @Setter
+    public static class Http {
+        private long connectTimeoutMs = 10000; // 10 seconds
+
+        // Until the response headers arrive; the body is then read without a deadline of its own
+        private long readTimeoutMs = 30000; // 30 seconds
+    }
+
+    @Getter
+    @Setter
+    public static class Retention {
+        // Move listings the feeds stopped showing from job to job_archive
+        private boolean enabled = true;
+
+        // At least twice the longest fullScanIntervalMs, since incremental passes leave last_seen_at alone
+        private long staleAfterMs = 2592000000L; // 30 days
+
+        private long intervalMs = 21600000; // 6 hours
+
+        // Rows moved per transaction, so no run holds locks on the job table for long
+        private int batchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class SourceSettings {
+        private boolean enabled = true;
+
+        // A cron expression takes precedence over fixedRateMs
+        private String cron;
+
+        private long fixedRateMs = 14400000; // 4 hours
+
+        // Defaults to one period, since the startup scrape already covers the first run
+        private Long initialDelayMs;
+
+        private int maxConcurrency = 1;
+
+        // Attempts per run, including the first; only transient failures are retried
+        private int maxRetries = 3;
+
+        // Base of the exponential backoff between attempts
+        private long retryDelayMs = 2000; // 2 seconds
+
+        // Longest wait between attempts; a Retry-After beyond it ends the run and holds the source off instead
+        private long maxRetryDelayMs = 60000; // 1 minute
+
+        // Consecutive failed runs before the source's circuit opens
+        private int failureThreshold = 3;
+
+        private long circuitCooldownMs = 1800000; // 30 minutes
+
+        // Stop reading the feed once knownRunLength listings from the previous run's top come by in a row
+        private boolean incremental = true;
+
+        private int knownRunLength = 5;
+
+        // Walk the whole feed at least this often, so edits further down and last_seen_at still get picked up
+        private long fullScanIntervalMs = 86400000; // 24 hours
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.jobscraperweb;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Per-source breaker over whole runs (after retries). Opens after failureThreshold consecutive failed
+// runs, or for as long as a Retry-After asked, and lets a single trial run through once the cool-down
+// has passed; that run closes it again or reopens it for another cool-down.
+final class SourceCircuitBreaker {
+
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+    private boolean trialRunning;
+
+    // False while open, and while the trial run after a cool-down is still going
+    synchronized boolean tryAcquire() {
+        if (Instant.now().isBefore(openUntil) || trialRunning) {
+            return false;
+        }
+        trialRunning = isTrial();
+        return true;
+    }
+
+    synchronized Instant getOpenUntil() {
+        return openUntil;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        openUntil = Instant.MIN;
+        trialRunning = false;
+    }
+
+    // Returns true when this failure opened the breaker
+    synchronized boolean recordFailure(int failureThreshold, Duration cooldown) {
+        boolean trial = trialRunning;
+        trialRunning = false;
+        consecutiveFailures++;
+        if (trial || consecutiveFailures >= failureThreshold) {
+            openUntil = Instant.now().plus(cooldown);
+            return true;
+        }
+        return false;
+    }
+
+    // The source asked us to stay away for a while; applies on top of any open cool-down
+    synchronized void holdOff(Duration retryAfter) {
+        Instant until = Instant.now().plus(retryAfter);
+        if (until.isAfter(openUntil)) {
+            openUntil = until;
+        }
+    }
+
+    private boolean isTrial() {
+        return !openUntil.equals(Instant.MIN);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.jobscraperweb;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Component
+public class WeWorkRemotelySource implements JobSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeWorkRemotelySource.class);
+    private static final String FEED_URL = "https://weworkremotely.com/remote-jobs.rss";
+
+    @Override
+    public String getId() {
+        return "weworkremotely";
+    }
+
+    @Override
+    public String getName() {
+        return "We Work Remotely";
+    }
+
+    @Override
+    public Optional<FetchedFeed> fetch(FeedFetcher feedFetcher) throws IOException {
+        return feedFetcher.fetch(getName(), FEED_URL, ScrapedJobs.rssHeaders());
+    }
+
+    // Jsoup only parses here; the body was already fetched through FeedFetcher
+    @Override
+    public Stream<Job> parse(InputStream body) throws IOException {
+        Document doc;
+        try (body) {
+            doc = Jsoup.parse(body, null, FEED_URL, Parser.xmlParser());
+        }
+        return doc.select("item").stream()
+                .map(this::toJob);
+    }
+
+    private Job toJob(Element item) {
+        String title = ScrapedJobs.cleanText(item.select("title").text());
+        String link = ScrapedJobs.cleanText(item.select("link").text());
+        String company = ScrapedJobs.cleanText(item.select("dc|creator").text());
+
+        // Handle title parsing for company extraction
+        if (company.isBlank() && title.contains(":")) {
+            String[] parts = title.split(":", 2);
+            if (parts.length == 2) {
+                company = parts[0].trim();
+                title = parts[1].trim();
+            }
+        }
+
+        if (!ScrapedJobs.isValidJobData(title, company, link)) {
+            logger.debug("Skipping invalid We Work Remotely job data");
+            return null;
+        }
+        return ScrapedJobs.createJob(title, company, link, getName());
+    }
+}
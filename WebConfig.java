@@ -0,0 +1,27 @@
+package org.example.jobscraperweb;
+
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class WebConfig {
+
+    static final DataSize COMPRESSION_MIN_RESPONSE_SIZE = DataSize.ofKilobytes(1);
+
+    // gzip for JSON and pages; job listings compress well and small responses are not worth the CPU
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> compressionCustomizer() {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(true);
+            compression.setMimeTypes(new String[]{"application/json", "application/problem+json",
+                    "application/x-ndjson", "text/csv", "text/html", "text/css", "application/javascript"});
+            compression.setMinResponseSize(COMPRESSION_MIN_RESPONSE_SIZE);
+            factory.setCompression(compression);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.jobscraperweb.benchmark;
+
+import org.example.jobscraperweb.JobFingerprintIndex;
+import org.example.jobscraperweb.JobScraperWebApplication;
+import org.example.jobscraperweb.JobSearchIndex;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Boots the application against a fresh, uniquely named in-memory H2 without the web server, the startup
+// scrape or any scheduled source, and fills the job table with generated listings
+final class BenchmarkDatabase {
+
+    static final String URL_PREFIX = "https://example.com/jobs/";
+
+    static final String[] SOURCES = {"We Work Remotely", "RemoteOK", "Remotive"};
+
+    // Titles combine a level, a stack and a role; companies cycle through 16 names
+    private static final String SEED_SQL =
+            "INSERT INTO job (id, title, company, url, source, type, created_at, updated_at, last_seen_at) " +
+            "SELECT X, " +
+            "ARRAY['Senior', 'Junior', 'Staff', 'Lead', 'Principal', 'Mid-Level'][MOD(X, 6) + 1] || ' ' || " +
+            "ARRAY['Java', 'Python', 'Go', 'Rust', 'TypeScript', 'Ruby', 'Kotlin', 'Scala', 'React', 'Node.js', " +
+            "'DevOps', 'Data'][MOD(X / 6, 12) + 1] || ' ' || " +
+            "ARRAY['Engineer', 'Developer', 'Architect', 'Consultant', 'Manager', 'Analyst'][MOD(X / 72, 6) + 1], " +
+            "ARRAY['Acme', 'Globex', 'Initech', 'Umbrella', 'Hooli', 'Vandelay', 'Stark Industries', " +
+            "'Wayne Enterprises', 'Wonka', 'Cyberdyne', 'Soylent', 'Tyrell', 'Aperture', 'Massive Dynamic', " +
+            "'Pied Piper', 'Dunder Mifflin'][MOD(X, 16) + 1], " +
+            "'" + URL_PREFIX + "' || X, " +
+            "ARRAY['" + String.join("', '", SOURCES) + "'][MOD(X, 3) + 1], " +
+            "'Remote', DATEADD(MINUTE, -X, LOCALTIMESTAMP), DATEADD(MINUTE, -X, LOCALTIMESTAMP), LOCALTIMESTAMP " +
+            "FROM SYSTEM_RANGE(1, ?)";
+
+    private BenchmarkDatabase() {}
+
+    static ConfigurableApplicationContext start(int rows) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JobScraperWebApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN",
+                        "scraper.warmup.enabled=false",
+                        "scraper.sources.weworkremotely.enabled=false",
+                        "scraper.sources.remoteok.enabled=false",
+                        "scraper.sources.remotive.enabled=false")
+                .run();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(SEED_SQL, rows);
+        // Ids handed out by the application continue after the seeded ones
+        jdbcTemplate.execute("ALTER SEQUENCE job_seq RESTART WITH " + (rows + 1));
+        jdbcTemplate.execute("ANALYZE");
+        // Both indexes were built empty when the application became ready
+        context.getBean(JobSearchIndex.class).rebuild();
+        context.getBean(JobFingerprintIndex.class).rebuild();
+        return context;
+    }
+}
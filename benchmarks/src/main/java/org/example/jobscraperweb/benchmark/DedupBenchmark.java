@@ -0,0 +1,111 @@
+package org.example.jobscraperweb.benchmark;
+
+import org.example.jobscraperweb.IngestionResult;
+import org.example.jobscraperweb.Job;
+import org.example.jobscraperweb.JobIngestionService;
+import org.example.jobscraperweb.JobRepository;
+import org.example.jobscraperweb.JobSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// One feed batch against a populated table: the original existsByUrl + save per item versus
+// JobIngestionService's IN-query classification and batched upsert. Half of each batch is already stored.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DedupBenchmark {
+
+    // Matches the chunk JobBatchWriter hands to ingestion
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private JobRepository jobRepository;
+    private JobIngestionService jobIngestionService;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+    private long nextNewId;
+    private List<Job> batch;
+
+    @Setup(Level.Trial)
+    public void startDatabase() {
+        context = BenchmarkDatabase.start(rows);
+        jobRepository = context.getBean(JobRepository.class);
+        jobIngestionService = context.getBean(JobIngestionService.class);
+        nextNewId = rows + 1L;
+    }
+
+    // New urls are never reused, so every invocation sees the same new/stored mix. Stored listings are
+    // sent unchanged, so neither path rewrites them.
+    @Setup(Level.Invocation)
+    public void nextBatch() {
+        List<String> storedUrls = new ArrayList<>(BATCH_SIZE / 2);
+        for (int i = 0; i < BATCH_SIZE / 2; i++) {
+            storedUrls.add(BenchmarkDatabase.URL_PREFIX + random.nextLong(1, rows + 1L));
+        }
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (JobSnapshot stored : jobRepository.findSnapshotsByUrlIn(storedUrls)) {
+            batch.add(job(stored.getUrl(), stored.getTitle(), stored.getCompany()));
+        }
+        while (batch.size() < BATCH_SIZE) {
+            batch.add(job(BenchmarkDatabase.URL_PREFIX + nextNewId++, "Senior Java Engineer", "Acme"));
+        }
+        Collections.shuffle(batch, new Random(random.nextLong()));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        context.close();
+    }
+
+    private Job job(String url, String title, String company) {
+        Job job = new Job();
+        job.setTitle(title);
+        job.setCompany(company);
+        job.setUrl(url);
+        job.setSource(BenchmarkDatabase.SOURCES[0]);
+        job.setType("Remote");
+        return job;
+    }
+
+    @Benchmark
+    public int perItem() {
+        int added = 0;
+        for (Job job : batch) {
+            if (!jobRepository.existsByUrl(job.getUrl())) {
+                jobRepository.save(job);
+                added++;
+            }
+        }
+        return added;
+    }
+
+    @Benchmark
+    public IngestionResult batched() {
+        return jobIngestionService.ingest(BenchmarkDatabase.SOURCES[0], batch);
+    }
+}
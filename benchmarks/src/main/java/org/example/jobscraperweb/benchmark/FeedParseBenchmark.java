@@ -0,0 +1,69 @@
+package org.example.jobscraperweb.benchmark;
+
+import org.example.jobscraperweb.Job;
+import org.example.jobscraperweb.JobSource;
+import org.example.jobscraperweb.RemoteOkSource;
+import org.example.jobscraperweb.RemotiveSource;
+import org.example.jobscraperweb.WeWorkRemotelySource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// Feed body to Job objects for each source, from generated fixture payloads held in memory so only parsing is measured
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedParseBenchmark {
+
+    private final JobSource weWorkRemotely = new WeWorkRemotelySource();
+    private final JobSource remoteOk = new RemoteOkSource();
+    private final JobSource remotive = new RemotiveSource();
+
+    private byte[] weWorkRemotelyFeed;
+    private byte[] remoteOkFeed;
+    private byte[] remotiveFeed;
+
+    @Setup
+    public void loadFixtures() throws IOException {
+        weWorkRemotelyFeed = Fixtures.load("weworkremotely.rss");
+        remoteOkFeed = Fixtures.load("remoteok.json");
+        remotiveFeed = Fixtures.load("remotive.json");
+    }
+
+    @Benchmark
+    public void weWorkRemotely(Blackhole blackhole) throws IOException {
+        parse(weWorkRemotely, weWorkRemotelyFeed, blackhole);
+    }
+
+    @Benchmark
+    public void remoteOk(Blackhole blackhole) throws IOException {
+        parse(remoteOk, remoteOkFeed, blackhole);
+    }
+
+    @Benchmark
+    public void remotive(Blackhole blackhole) throws IOException {
+        parse(remotive, remotiveFeed, blackhole);
+    }
+
+    private void parse(JobSource source, byte[] feed, Blackhole blackhole) throws IOException {
+        try (Stream<Job> jobs = source.parse(new ByteArrayInputStream(feed))) {
+            jobs.forEach(blackhole::consume);
+        }
+    }
+}
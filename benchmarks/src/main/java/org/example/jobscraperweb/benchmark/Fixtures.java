@@ -0,0 +1,19 @@
+package org.example.jobscraperweb.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// Feed payloads under src/main/resources/fixtures, shaped like the live feeds with 1000 listings each
+final class Fixtures {
+
+    private Fixtures() {}
+
+    static byte[] load(String name) throws IOException {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IOException("Missing fixture " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
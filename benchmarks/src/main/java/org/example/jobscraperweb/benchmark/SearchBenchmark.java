@@ -0,0 +1,72 @@
+package org.example.jobscraperweb.benchmark;
+
+import org.example.jobscraperweb.Job;
+import org.example.jobscraperweb.JobListingService;
+import org.example.jobscraperweb.JobRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// First page of a keyword search: the LIKE scan in JobRepository.searchJobs versus the search index plus a
+// findAllById of the page, as JobListingService serves it. Both include the total the page shows.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    // A role word, a stack word and a company name, each matching a different share of the listings
+    @Param({"engineer", "kotlin", "initech"})
+    public String keyword;
+
+    private ConfigurableApplicationContext context;
+    private JobRepository jobRepository;
+    private JobListingService jobListingService;
+
+    @Setup(Level.Trial)
+    public void startDatabase() {
+        context = BenchmarkDatabase.start(rows);
+        jobRepository = context.getBean(JobRepository.class);
+        jobListingService = context.getBean(JobListingService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Job> like() {
+        return jobRepository.searchJobs(keyword, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Order.desc("id"))));
+    }
+
+    @Benchmark
+    public JobListingService.JobListing indexed() throws IOException {
+        // No sort: ranked by relevance, as the listing serves a plain keyword search
+        return jobListingService.list(keyword, null, 0, PAGE_SIZE, null, null);
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.jobscraperweb;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class JobFingerprintTest {
+
+    @Test
+    void abbreviationsPunctuationAndRemoteNoiseNormalizeAway() {
+        assertEquals(JobFingerprint.of("Senior Java Engineer", "ACME"),
+                JobFingerprint.of("Sr. Java Engineer (Remote)", "Acme, Inc."));
+    }
+
+    @Test
+    void accentsHyphensAndCompanySuffixesNormalizeAway() {
+        assertEquals(JobFingerprint.of("Full Stack Developer", "Cafe"),
+                JobFingerprint.of("Full-Stack Dev", "Café Ltd"));
+    }
+
+    @Test
+    void wordOrderAndRepeatsDoNotMatter() {
+        assertEquals(JobFingerprint.of("Senior Java Engineer", "Acme"),
+                JobFingerprint.of("Java Engineer, Senior - Java", "Acme"));
+    }
+
+    @Test
+    void aDifferentRealWordGivesADifferentFingerprint() {
+        assertNotEquals(JobFingerprint.of("Senior Java Engineer", "Acme"),
+                JobFingerprint.of("Senior Go Engineer", "Acme"));
+        assertNotEquals(JobFingerprint.of("Senior Java Engineer", "Acme"),
+                JobFingerprint.of("Senior Java Engineer", "Globex"));
+        assertNotEquals(JobFingerprint.of("C++ Developer", "Acme"), JobFingerprint.of("C# Developer", "Acme"));
+    }
+
+    @Test
+    void titleAndCompanyAreNotInterchangeable() {
+        assertNotEquals(JobFingerprint.of("Acme", "Java"), JobFingerprint.of("Java", "Acme"));
+    }
+
+    @Test
+    void nothingLeftAfterNormalizationGivesNone() {
+        assertEquals(JobFingerprint.NONE, JobFingerprint.of("Remote", "Acme"));
+        assertEquals(JobFingerprint.NONE, JobFingerprint.of("Java Engineer", "Inc."));
+        assertEquals(JobFingerprint.NONE, JobFingerprint.of(null, "Acme"));
+        assertEquals(JobFingerprint.NONE, JobFingerprint.of("Java Engineer", null));
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.jobscraperweb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongLongMapTest {
+
+    private static final long MISSING = -1L;
+
+    @Test
+    void removeReturnsTheValueAndForgetsTheKey() {
+        LongLongMap map = new LongLongMap();
+        map.putIfAbsent(7L, 70L);
+
+        assertEquals(70L, map.remove(7L, MISSING));
+        assertEquals(MISSING, map.get(7L, MISSING));
+        assertEquals(0, map.size());
+        assertTrue(map.putIfAbsent(7L, 71L));
+        assertEquals(71L, map.get(7L, MISSING));
+    }
+
+    @Test
+    void removeOfAnAbsentKeyReturnsMissing() {
+        LongLongMap map = new LongLongMap();
+        map.putIfAbsent(7L, 70L);
+
+        assertEquals(MISSING, map.remove(8L, MISSING));
+        assertEquals(MISSING, map.remove(0L, MISSING));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void keyZeroIsReserved() {
+        assertThrows(IllegalArgumentException.class, () -> new LongLongMap().putIfAbsent(0L, 1L));
+    }
+
+    @Test
+    void putIfAbsentKeepsTheFirstValue() {
+        LongLongMap map = new LongLongMap();
+
+        assertTrue(map.putIfAbsent(7L, 70L));
+        assertFalse(map.putIfAbsent(7L, 71L));
+        assertEquals(70L, map.get(7L, MISSING));
+    }
+
+    // Just under the resize threshold probe runs are long, so most removals have to shift later entries of
+    // their run back for them to stay reachable
+    @Test
+    void removeKeepsTheRestOfAProbeRunReachable() {
+        LongLongMap map = new LongLongMap();
+        int count = 760;
+        for (long key = 1; key <= count; key++) {
+            map.putIfAbsent(key, key * 10);
+        }
+        for (long key = 1; key <= count; key += 3) {
+            assertEquals(key * 10, map.remove(key, MISSING));
+        }
+
+        for (long key = 1; key <= count; key++) {
+            assertEquals((key - 1) % 3 == 0 ? MISSING : key * 10, map.get(key, MISSING));
+        }
+        assertEquals(count - (count + 2) / 3, map.size());
+    }
+
+    @Test
+    void matchesHashMapUnderRandomPutsAndRemoves() {
+        LongLongMap map = new LongLongMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            // A small key range keeps the map around its resize thresholds with plenty of collisions
+            long key = 1 + random.nextInt(3000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, MISSING), map.remove(key, MISSING));
+                expected.remove(key);
+            } else {
+                long value = random.nextLong() & Long.MAX_VALUE;
+                assertEquals(expected.putIfAbsent(key, value) == null, map.putIfAbsent(key, value));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 3000; key++) {
+            assertEquals(expected.getOrDefault(key, MISSING), map.get(key, MISSING));
+        }
+    }
+}